@@ -0,0 +1,23 @@
+package br.com.mardoniorodrigues.ordering;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+public class OrderingBenchmarkContext {
+
+    private OrderingBenchmarkContext() {}
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        String[] args = Stream.concat(Stream.of("spring.jpa.show-sql=false"), Arrays.stream(properties))
+            .map(property -> "--" + property)
+            .toArray(String[]::new);
+
+        return new SpringApplicationBuilder(OrderingApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args);
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.mardoniorodrigues.ordering.domain.model.entity;
+
+import br.com.mardoniorodrigues.ordering.domain.model.factory.OrderFactory;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.*;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ProductId;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class OrderBenchmarkFixtures {
+
+    private OrderBenchmarkFixtures() {}
+
+    public static List<Order> orders(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> anOrder(new CustomerId()))
+            .toList();
+    }
+
+    public static Order anOrder(CustomerId customerId) {
+        return OrderFactory.filled(
+            customerId,
+            aShipping(),
+            aBilling(),
+            PaymentMethod.CREDIT_CARD,
+            aProduct(),
+            new Quantity(2)
+        );
+    }
+
+    public static Product aProduct() {
+        return Product.builder()
+            .id(new ProductId())
+            .name(new ProductName("Notebook X11"))
+            .price(new Money("3000"))
+            .inStock(true)
+            .build();
+    }
+
+    public static Billing aBilling() {
+        return Billing.builder()
+            .fullName(new FullName("John", "Doe"))
+            .document(new Document("225-09-1992"))
+            .phone(new Phone("123-111-9911"))
+            .email(new Email("jhon.doe@gmail.com"))
+            .address(anAddress())
+            .build();
+    }
+
+    public static Shipping aShipping() {
+        return Shipping.builder()
+            .cost(new Money("10.00"))
+            .expectedDate(LocalDate.now().plusWeeks(1))
+            .address(anAddress())
+            .recipient(Recipient.builder()
+                .fullName(new FullName("John", "Doe"))
+                .document(new Document("112-33-2321"))
+                .phone(new Phone("111-441-1244"))
+                .build())
+            .build();
+    }
+
+    public static Address anAddress() {
+        return Address.builder()
+            .street("Bourdon Street")
+            .number("1234")
+            .neighborhood("North Ville")
+            .complement("apt. 11")
+            .city("Montfort")
+            .state("South Carolina")
+            .zipCode(new ZipCode("79911"))
+            .build();
+    }
+}
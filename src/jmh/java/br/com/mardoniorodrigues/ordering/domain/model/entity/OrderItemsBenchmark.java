@@ -0,0 +1,51 @@
+package br.com.mardoniorodrigues.ordering.domain.model.entity;
+
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Product;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Quantity;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderItemId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderItemsBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int items;
+
+    private final CustomerId customerId = new CustomerId();
+    private final Quantity quantity = new Quantity(2);
+    private final Quantity changedQuantity = new Quantity(3);
+
+    private Product product;
+    private Order filledOrder;
+    private OrderItemId lastItemId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        product = OrderBenchmarkFixtures.aProduct();
+        filledOrder = buildOrder();
+        lastItemId = filledOrder.items().stream()
+            .map(OrderItem::id)
+            .reduce((first, second) -> second)
+            .orElseThrow();
+    }
+
+    @Benchmark
+    public Order buildOrder() {
+        Order order = Order.draft(customerId);
+        for (int i = 0; i < items; i++) {
+            order.addItem(product, quantity);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public Order changeItemQuantity() {
+        filledOrder.changeItemQuantity(lastItemId, changedQuantity);
+        return filledOrder;
+    }
+}
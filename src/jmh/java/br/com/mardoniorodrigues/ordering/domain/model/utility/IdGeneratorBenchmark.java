@@ -0,0 +1,60 @@
+package br.com.mardoniorodrigues.ordering.domain.model.utility;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
+import io.hypersistence.tsid.TSID;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class IdGeneratorBenchmark {
+
+    private final TSID.Factory sharedFactory = TSID.Factory.builder().withNodeBits(10).withNode(1).build();
+    private final StripedTSIDFactory stripedFactory = new StripedTSIDFactory(1, 10, 32, 1, 5);
+    private final StripedTSIDFactory blockFactory = new StripedTSIDFactory(1, 10, 32, 64, 5);
+
+    private final TimeBasedEpochRandomGenerator sharedUUIDGenerator = Generators.timeBasedEpochRandomGenerator();
+
+    @State(Scope.Thread)
+    public static class ThreadUUIDGenerator {
+
+        TimeBasedEpochRandomGenerator generator;
+
+        @Setup(Level.Trial)
+        public void setup() throws NoSuchAlgorithmException {
+            generator = Generators.timeBasedEpochRandomGenerator(SecureRandom.getInstance("DRBG"));
+        }
+    }
+
+    @Benchmark
+    public TSID sharedTSID() {
+        return sharedFactory.generate();
+    }
+
+    @Benchmark
+    public TSID stripedTSID() {
+        return stripedFactory.generate();
+    }
+
+    @Benchmark
+    public TSID stripedTSIDBlocks() {
+        return blockFactory.generate();
+    }
+
+    @Benchmark
+    public UUID sharedUUID() {
+        return sharedUUIDGenerator.generate();
+    }
+
+    @Benchmark
+    public UUID threadLocalUUID(ThreadUUIDGenerator threadGenerator) {
+        return threadGenerator.generator.generate();
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.mardoniorodrigues.ordering.domain.model.validator;
+
+import org.apache.commons.validator.routines.EmailValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailValidationBenchmark {
+
+    @Param({"john.doe@hotmail.com", "invalid", "john@example.com.", "john@example.museum", "john..doe@example.com"})
+    private String email;
+
+    @Benchmark
+    public boolean emailValidator() {
+        return EmailValidator.getInstance().isValid(email);
+    }
+
+    @Benchmark
+    public ValidationResult fieldValidations() {
+        return FieldValidations.validateEmail(email, "invalid");
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.mardoniorodrigues.ordering.domain.model.valueObject;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares Money against the previous BigDecimal-only representation,
+ * kept here as DecimalMoney. Run with -prof gc to see allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private static final int ITEMS = 100;
+
+    private final Money[] prices = new Money[ITEMS];
+    private final DecimalMoney[] decimalPrices = new DecimalMoney[ITEMS];
+    private final Quantity quantity = new Quantity(3);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < ITEMS; i++) {
+            String price = (i + 1) + "." + (i % 100);
+            prices[i] = new Money(price);
+            decimalPrices[i] = new DecimalMoney(new BigDecimal(price));
+        }
+    }
+
+    @Benchmark
+    public Money cartTotal() {
+        Money total = Money.ZERO;
+        for (Money price : prices) {
+            total = total.add(price.multiply(quantity));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public DecimalMoney cartTotalBigDecimal() {
+        DecimalMoney total = DecimalMoney.ZERO;
+        for (DecimalMoney price : decimalPrices) {
+            total = total.add(price.multiply(quantity));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money divide() {
+        return prices[ITEMS - 1].divide(prices[2]);
+    }
+
+    @Benchmark
+    public DecimalMoney divideBigDecimal() {
+        return decimalPrices[ITEMS - 1].divide(decimalPrices[2]);
+    }
+
+    public record DecimalMoney(BigDecimal value) {
+
+        static final DecimalMoney ZERO = new DecimalMoney(BigDecimal.ZERO);
+
+        public DecimalMoney {
+            Objects.requireNonNull(value);
+            value = value.setScale(2, RoundingMode.HALF_EVEN);
+        }
+
+        DecimalMoney multiply(Quantity quantity) {
+            return new DecimalMoney(value.multiply(new BigDecimal(quantity.value())));
+        }
+
+        DecimalMoney divide(DecimalMoney money) {
+            return new DecimalMoney(value.divide(money.value, RoundingMode.HALF_EVEN));
+        }
+
+        DecimalMoney add(DecimalMoney money) {
+            return new DecimalMoney(value.add(money.value));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.MoneyCentsConverter;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.OrderStatusCodeConverter;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.PaymentMethodCodeConverter;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.UuidBinaryConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Full scans over the previous order table layout (varchar status and
+ * payment method, decimal amounts, dialect uuid) and the compact one
+ * (smallint codes, bigint cents, binary(16) ids), decoding rows the way
+ * the converters do. Also reports the on-disk size of both tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderTableScanBenchmark {
+
+    private static final String[] STATUSES = {"DRAFT", "PLACED", "PAID", "READY", "CANCELED"};
+    private static final String[] PAYMENT_METHODS = {"CREDIT_CARD", "GATEWAY_BALANCE"};
+
+    @Param({"200000"})
+    private int rows;
+
+    private Connection connection;
+
+    private final OrderStatusCodeConverter statusConverter = new OrderStatusCodeConverter();
+    private final PaymentMethodCodeConverter paymentMethodConverter = new PaymentMethodCodeConverter();
+    private final MoneyCentsConverter moneyConverter = new MoneyCentsConverter();
+    private final UuidBinaryConverter uuidConverter = new UuidBinaryConverter();
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:scan;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                create table legacy_order (id bigint primary key, customer_id uuid, total_amount numeric(38,2),
+                    total_items integer, status varchar(255), payment_method varchar(255))
+                """);
+            statement.execute("""
+                create table compact_order (id bigint primary key, customer_id binary(16), total_amount bigint,
+                    total_items integer, status smallint, payment_method smallint)
+                """);
+        }
+
+        try (PreparedStatement legacy = connection.prepareStatement("insert into legacy_order values (?, ?, ?, ?, ?, ?)");
+             PreparedStatement compact = connection.prepareStatement("insert into compact_order values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                UUID customerId = UUID.randomUUID();
+                BigDecimal totalAmount = BigDecimal.valueOf(1000 + i % 100_000, 2);
+                String status = STATUSES[i % STATUSES.length];
+                String paymentMethod = PAYMENT_METHODS[i % PAYMENT_METHODS.length];
+
+                legacy.setLong(1, i);
+                legacy.setObject(2, customerId);
+                legacy.setBigDecimal(3, totalAmount);
+                legacy.setInt(4, i % 10 + 1);
+                legacy.setString(5, status);
+                legacy.setString(6, paymentMethod);
+                legacy.addBatch();
+
+                compact.setLong(1, i);
+                compact.setBytes(2, uuidConverter.convertToDatabaseColumn(customerId));
+                compact.setLong(3, moneyConverter.convertToDatabaseColumn(totalAmount));
+                compact.setInt(4, i % 10 + 1);
+                compact.setShort(5, statusConverter.convertToDatabaseColumn(status));
+                compact.setShort(6, paymentMethodConverter.convertToDatabaseColumn(paymentMethod));
+                compact.addBatch();
+
+                if (i % 1_000 == 999) {
+                    legacy.executeBatch();
+                    compact.executeBatch();
+                }
+            }
+            legacy.executeBatch();
+            compact.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                 select table_name, sum(disk_space_used(table_name)) from information_schema.tables
+                 where table_name in ('LEGACY_ORDER', 'COMPACT_ORDER') group by table_name
+                 """)) {
+            while (resultSet.next()) {
+                System.out.printf("%n%s: %d bytes%n", resultSet.getString(1), resultSet.getLong(2));
+            }
+        } catch (SQLException e) {
+            System.out.printf("%nTable sizes unavailable: %s%n", e.getMessage());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void scanLegacy(Blackhole blackhole) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                 "select id, customer_id, total_amount, total_items, status, payment_method from legacy_order")) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getObject(2, UUID.class));
+                blackhole.consume(resultSet.getBigDecimal(3));
+                blackhole.consume(resultSet.getInt(4));
+                blackhole.consume(resultSet.getString(5));
+                blackhole.consume(resultSet.getString(6));
+            }
+        }
+    }
+
+    @Benchmark
+    public void scanCompact(Blackhole blackhole) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                 "select id, customer_id, total_amount, total_items, status, payment_method from compact_order")) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(uuidConverter.convertToEntityAttribute(resultSet.getBytes(2)));
+                blackhole.consume(moneyConverter.convertToEntityAttribute(resultSet.getLong(3)));
+                blackhole.consume(resultSet.getInt(4));
+                blackhole.consume(statusConverter.convertToEntityAttribute(resultSet.getShort(5)));
+                blackhole.consume(paymentMethodConverter.convertToEntityAttribute(resultSet.getShort(6)));
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderItem;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.PaymentMethod;
+import br.com.mardoniorodrigues.ordering.domain.model.utility.IdGenerator;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Money;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.ProductName;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Quantity;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderItemId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ProductId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderItemPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Rows per second and, with the gc profiler, bytes allocated per row for the
+ * direct rehydration path against the previous Lombok builder path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderRehydrationBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"0", "3"})
+    private int itemsPerOrder;
+
+    private final OrderPersistenceEntityDisassembler disassembler = new OrderPersistenceEntityDisassembler();
+    private final OrderPersistenceEntity[] rows = new OrderPersistenceEntity[ROWS];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < ROWS; i++) {
+            OrderPersistenceEntity row = OrderPersistenceEntity.builder()
+                .id(IdGenerator.generateTSID().toLong())
+                .version(1L)
+                .customerId(IdGenerator.generateTimeBasedUUID())
+                .totalAmount(new BigDecimal("1250.90"))
+                .totalItems(itemsPerOrder * 2)
+                .status(OrderStatus.values()[i % OrderStatus.values().length].name())
+                .paymentMethod(PaymentMethod.CREDIT_CARD.name())
+                .placedAt(OffsetDateTime.now())
+                .build();
+            for (int j = 0; j < itemsPerOrder; j++) {
+                row.getItems().add(OrderItemPersistenceEntity.builder()
+                    .id(IdGenerator.generateTSID().toLong())
+                    .order(row)
+                    .productId(UUID.randomUUID())
+                    .productName("Product " + j)
+                    .price(new BigDecimal("100.00"))
+                    .quantity(2)
+                    .totalAmount(new BigDecimal("200.00"))
+                    .build());
+            }
+            rows[i] = row;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void direct(Blackhole blackhole) {
+        for (OrderPersistenceEntity row : rows) {
+            blackhole.consume(disassembler.toDomainEntity(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void builder(Blackhole blackhole) {
+        for (OrderPersistenceEntity row : rows) {
+            blackhole.consume(toDomainEntityWithBuilder(row));
+        }
+    }
+
+    private static Order toDomainEntityWithBuilder(OrderPersistenceEntity persistenceEntity) {
+        OrderId orderId = new OrderId(persistenceEntity.getId());
+
+        Set<OrderItem> items = new HashSet<>();
+        for (OrderItemPersistenceEntity item : persistenceEntity.getItems()) {
+            items.add(OrderItem.existing()
+                .id(new OrderItemId(item.getId()))
+                .orderId(orderId)
+                .productId(new ProductId(item.getProductId()))
+                .productName(new ProductName(item.getProductName()))
+                .price(new Money(item.getPrice()))
+                .quantity(new Quantity(item.getQuantity()))
+                .totalAmount(new Money(item.getTotalAmount()))
+                .build());
+        }
+
+        return Order.existing()
+            .id(orderId)
+            .version(persistenceEntity.getVersion())
+            .customerId(new CustomerId(persistenceEntity.getCustomerId()))
+            .totalAmount(new Money(persistenceEntity.getTotalAmount()))
+            .totalItems(new Quantity(persistenceEntity.getTotalItems()))
+            .status(OrderStatus.valueOf(persistenceEntity.getStatus()))
+            .paymentMethod(PaymentMethod.valueOf(persistenceEntity.getPaymentMethod()))
+            .placedAt(persistenceEntity.getPlacedAt())
+            .paidAt(persistenceEntity.getPaidAt())
+            .canceledAt(persistenceEntity.getCanceledAt())
+            .readyAt(persistenceEntity.getReadyAt())
+            .items(items)
+            .build();
+    }
+}
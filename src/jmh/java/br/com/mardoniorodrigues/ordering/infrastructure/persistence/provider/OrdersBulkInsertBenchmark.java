@@ -0,0 +1,54 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.OrderingBenchmarkContext;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderBenchmarkFixtures;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrdersBulkInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"1", "50", "200"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private Orders orders;
+    private List<Order> pendingOrders;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = OrderingBenchmarkContext.start("ordering.persistence.batch-size=" + batchSize);
+        orders = context.getBean(Orders.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareOrders() {
+        pendingOrders = OrderBenchmarkFixtures.orders(ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void addOneByOne() {
+        pendingOrders.forEach(orders::add);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void addAll() {
+        orders.addAll(pendingOrders);
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.OrderingBenchmarkContext;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderBenchmarkFixtures;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OrderPersistenceEntityRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class OrdersConcurrentLoadBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private Orders orders;
+    private OrderPersistenceEntityRepository persistenceRepository;
+    private OrderPersistenceEntityDisassembler disassembler;
+    private Statistics statistics;
+    private Order hotOrder;
+
+    private final LongAdder loads = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = OrderingBenchmarkContext.start(
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "spring.datasource.hikari.maximum-pool-size=32"
+        );
+        orders = context.getBean(Orders.class);
+        persistenceRepository = context.getBean(OrderPersistenceEntityRepository.class);
+        disassembler = context.getBean(OrderPersistenceEntityDisassembler.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        hotOrder = OrderBenchmarkFixtures.anOrder(new CustomerId());
+        orders.add(hotOrder);
+        statistics.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        System.out.printf("%n%d queries for %d loads%n", statistics.getPrepareStatementCount(), loads.sum());
+        context.close();
+    }
+
+    @Benchmark
+    public Order coalescedLoad() {
+        loads.increment();
+        return orders.ofId(hotOrder.id()).orElseThrow();
+    }
+
+    @Benchmark
+    public Order independentLoad() {
+        loads.increment();
+        return persistenceRepository.findWithItemsById(hotOrder.id().value().toLong())
+            .map(disassembler::toDomainEntity)
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.OrderingBenchmarkContext;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderBenchmarkFixtures;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OrderPersistenceEntityRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrdersCountBenchmark {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private Orders orders;
+    private OrderPersistenceEntityRepository persistenceRepository;
+    private OrderId existingOrderId;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        context = OrderingBenchmarkContext.start(
+            "spring.datasource.url=jdbc:h2:mem:orders-count-benchmark;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;",
+            "spring.jpa.hibernate.ddl-auto=create-drop"
+        );
+        orders = context.getBean(Orders.class);
+        persistenceRepository = context.getBean(OrderPersistenceEntityRepository.class);
+
+        for (int inserted = 0; inserted < rows; inserted += CHUNK_SIZE) {
+            List<Order> chunk = OrderBenchmarkFixtures.orders(Math.min(CHUNK_SIZE, rows - inserted));
+            orders.addAll(chunk);
+            existingOrderId = chunk.getFirst().id();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int countFromMaintainedCounter() {
+        return orders.count();
+    }
+
+    @Benchmark
+    public long countFromTableScan() {
+        return persistenceRepository.count();
+    }
+
+    @Benchmark
+    public boolean existsByPrimaryKey() {
+        return orders.exists(existingOrderId);
+    }
+}
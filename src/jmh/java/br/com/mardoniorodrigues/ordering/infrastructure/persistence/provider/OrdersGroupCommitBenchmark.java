@@ -0,0 +1,59 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.OrderingBenchmarkContext;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderBenchmarkFixtures;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Throughput shows how many placements per second the write path sustains,
+ * SampleTime reports the p99 each caller pays for it. "off" is the plain
+ * one-transaction-per-add path; the others are max-batch-size/max-wait.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class OrdersGroupCommitBenchmark {
+
+    @Param({"off", "8/PT1MS", "32/PT2MS", "128/PT5MS"})
+    private String groupCommit;
+
+    private ConfigurableApplicationContext context;
+    private Orders orders;
+    private CustomerId customerId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        if ("off".equals(groupCommit)) {
+            context = OrderingBenchmarkContext.start("spring.datasource.hikari.maximum-pool-size=32");
+        } else {
+            String[] settings = groupCommit.split("/");
+            context = OrderingBenchmarkContext.start(
+                "spring.datasource.hikari.maximum-pool-size=32",
+                "ordering.persistence.group-commit.enabled=true",
+                "ordering.persistence.group-commit.max-batch-size=" + settings[0],
+                "ordering.persistence.group-commit.max-wait=" + settings[1]
+            );
+        }
+        orders = context.getBean(Orders.class);
+        customerId = new CustomerId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order placeOrder() {
+        Order order = OrderBenchmarkFixtures.anOrder(customerId);
+        orders.add(order);
+        return order;
+    }
+}
@@ -1,6 +1,17 @@
 package br.com.mardoniorodrigues.ordering.domain.model.entity;
 
+import br.com.mardoniorodrigues.ordering.domain.model.event.DomainEvent;
+
+import java.util.List;
+
 public interface AggregateRoot<ID> {
 
     ID id();
+
+    default List<DomainEvent> domainEvents() {
+        return List.of();
+    }
+
+    default void clearDomainEvents() {
+    }
 }
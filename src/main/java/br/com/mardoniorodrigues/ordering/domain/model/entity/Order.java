@@ -1,6 +1,8 @@
 package br.com.mardoniorodrigues.ordering.domain.model.entity;
 
+import br.com.mardoniorodrigues.ordering.domain.model.event.*;
 import br.com.mardoniorodrigues.ordering.domain.model.exception.*;
+import br.com.mardoniorodrigues.ordering.domain.model.validator.ValidationResult;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.*;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
@@ -11,14 +13,37 @@ import lombok.Builder;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_BILLING_INFO;
+import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_ITEMS;
+import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_PAYMENT_METHOD;
+import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_SHIPPING_INFO;
+import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.ERROR_ORDER_STATUS_CANNOT_BE_CHANGED;
+
 public class Order implements AggregateRoot<OrderId> {
 
+    private static final OrderStatusMachine STATUS_MACHINE = OrderStatusMachine.builder()
+        .onAny((order, from, to, at) -> order.setStatus(to))
+        .on(OrderStatus.PLACED, (order, from, to, at) -> order.setPlacedAt(at))
+        .on(OrderStatus.PAID, (order, from, to, at) -> order.setPaidAt(at))
+        .on(OrderStatus.READY, (order, from, to, at) -> order.setReadyAt(at))
+        .on(OrderStatus.CANCELED, (order, from, to, at) -> order.setCanceledAt(at))
+        .on(OrderStatus.PLACED, (order, from, to, at) -> order.registerEvent(new OrderPlacedEvent(order.id(), order.customerId(), at)))
+        .on(OrderStatus.PAID, (order, from, to, at) -> order.registerEvent(new OrderPaidEvent(order.id(), order.customerId(), at)))
+        .on(OrderStatus.READY, (order, from, to, at) -> order.registerEvent(new OrderReadyEvent(order.id(), order.customerId(), at)))
+        .on(OrderStatus.CANCELED, (order, from, to, at) -> order.registerEvent(new OrderCanceledEvent(order.id(), order.customerId(), at)))
+        .build();
+
     private OrderId id;
+    private Long version;
     private CustomerId customerId;
 
     private Money totalAmount;
@@ -36,13 +61,20 @@ public class Order implements AggregateRoot<OrderId> {
     private PaymentMethod paymentMethod;
 
     private Set<OrderItem> items;
+    private Map<OrderItemId, OrderItem> itemsById;
+
+    private BigDecimal itemsTotalAmount;
+    private int itemsTotalQuantity;
+
+    private List<DomainEvent> domainEvents;
 
     @Builder(builderClassName = "ExistingOrderBuilder", builderMethodName = "existing")
-    public Order(OrderId id, CustomerId customerId, Money totalAmount, Quantity totalItems,
+    public Order(OrderId id, Long version, CustomerId customerId, Money totalAmount, Quantity totalItems,
                  OffsetDateTime placedAt, OffsetDateTime paidAt, OffsetDateTime canceledAt, OffsetDateTime readyAt,
                  Billing billing, Shipping shipping, OrderStatus status, PaymentMethod paymentMethod,
                  Set<OrderItem> items) {
         this.setId(id);
+        this.setVersion(version);
         this.setCustomerId(customerId);
         this.setTotalAmount(totalAmount);
         this.setTotalItems(totalItems);
@@ -60,6 +92,7 @@ public class Order implements AggregateRoot<OrderId> {
     public static Order draft(CustomerId customerId) {
         return new Order(
             new OrderId(),
+            null,
             customerId,
             Money.ZERO,
             Quantity.ZERO,
@@ -88,11 +121,9 @@ public class Order implements AggregateRoot<OrderId> {
             .product(product)
             .build();
 
-        if (this.items == null) {
-            this.items = new HashSet<>();
-        }
-
         this.items.add(orderItem);
+        this.itemsById.put(orderItem.id(), orderItem);
+        this.includeInItemTotals(orderItem);
 
         this.recalculateTotals();
     }
@@ -104,6 +135,8 @@ public class Order implements AggregateRoot<OrderId> {
         OrderItem orderItem = this.findOrderItem(orderItemId);
 
         this.items.remove(orderItem);
+        this.itemsById.remove(orderItemId);
+        this.excludeFromItemTotals(orderItem);
 
         this.recalculateTotals();
     }
@@ -112,24 +145,35 @@ public class Order implements AggregateRoot<OrderId> {
 
         this.verifyIfCanChangeToPlaced();
 
-        this.setPlacedAt(OffsetDateTime.now());
-
         this.changeStatus(OrderStatus.PLACED);
     }
 
+    /*
+     * Reports what place() would reject without throwing: the placement rules
+     * first, then the same status check the status machine applies.
+     */
+    public ValidationResult tryVerifyCanBePlaced() {
+        PlacementViolation violation = this.findPlacementViolation();
+        if (violation != null) {
+            return ValidationResult.failure(violation.message(this.id()));
+        }
+        if (this.status().canNotChangeTo(OrderStatus.PLACED)) {
+            return ValidationResult.failure(
+                String.format(ERROR_ORDER_STATUS_CANNOT_BE_CHANGED, this.id(), this.status(), OrderStatus.PLACED));
+        }
+        return ValidationResult.ok();
+    }
+
     public void markAsPaid() {
         this.changeStatus(OrderStatus.PAID);
-        this.setPaidAt(OffsetDateTime.now());
     }
 
     public void markAsReady() {
         changeStatus(OrderStatus.READY);
-        this.setReadyAt(OffsetDateTime.now());
     }
 
     public void cancel() {
         changeStatus(OrderStatus.CANCELED);
-        this.setCanceledAt(OffsetDateTime.now());
     }
 
     public void changePaymentMethod(PaymentMethod paymentMethod) {
@@ -163,8 +207,14 @@ public class Order implements AggregateRoot<OrderId> {
         verifyIfChangeable();
 
         OrderItem orderItem = this.findOrderItem(orderItemId);
+        Money previousAmount = orderItem.totalAmount();
+        Quantity previousQuantity = orderItem.quantity();
+
         orderItem.changeQuantity(quantity);
 
+        this.itemsTotalAmount = this.itemsTotalAmount.subtract(previousAmount.value()).add(orderItem.totalAmount().value());
+        this.itemsTotalQuantity += orderItem.quantity().value() - previousQuantity.value();
+
         this.recalculateTotals();
     }
 
@@ -188,6 +238,10 @@ public class Order implements AggregateRoot<OrderId> {
         return id;
     }
 
+    public Long version() {
+        return version;
+    }
+
     public CustomerId customerId() {
         return customerId;
     }
@@ -232,57 +286,96 @@ public class Order implements AggregateRoot<OrderId> {
         return paymentMethod;
     }
 
-    private void recalculateTotals() {
-        BigDecimal totalItemsAmount = this.items()
-            .stream()
-            .map(i -> i.totalAmount().value())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    @Override
+    public List<DomainEvent> domainEvents() {
+        return domainEvents == null ? List.of() : Collections.unmodifiableList(domainEvents);
+    }
+
+    @Override
+    public void clearDomainEvents() {
+        this.domainEvents = null;
+    }
+
+    public void markAsPersisted(Long version) {
+        Objects.requireNonNull(version);
+        this.setVersion(version);
+    }
+
+    /*
+     * A save bumps the version and drains the events; a caller whose
+     * transaction then rolls back puts both back through restore.
+     */
+    public PersistenceState persistenceState() {
+        return new PersistenceState(this.version, this.domainEvents());
+    }
 
-        Integer totalItemsQuantity = this.items
-            .stream()
-            .map(i -> i.quantity().value())
-            .reduce(0, Integer::sum);
+    public void restore(PersistenceState state) {
+        Objects.requireNonNull(state);
+        this.setVersion(state.version());
+        this.domainEvents = state.domainEvents().isEmpty() ? null : new ArrayList<>(state.domainEvents());
+    }
 
+    private void recalculateTotals() {
         BigDecimal shippingCost = this.shipping() == null ? BigDecimal.ZERO : this.shipping.cost().value();
 
-        BigDecimal totalAmount = totalItemsAmount.add(shippingCost);
+        BigDecimal totalAmount = this.itemsTotalAmount.add(shippingCost);
 
         this.setTotalAmount(new Money(totalAmount));
-        this.setTotalItems(new Quantity(totalItemsQuantity));
+        this.setTotalItems(Quantity.of(this.itemsTotalQuantity));
+    }
+
+    private void includeInItemTotals(OrderItem orderItem) {
+        this.itemsTotalAmount = this.itemsTotalAmount.add(orderItem.totalAmount().value());
+        this.itemsTotalQuantity += orderItem.quantity().value();
+    }
+
+    private void excludeFromItemTotals(OrderItem orderItem) {
+        this.itemsTotalAmount = this.itemsTotalAmount.subtract(orderItem.totalAmount().value());
+        this.itemsTotalQuantity -= orderItem.quantity().value();
     }
 
     private void changeStatus(OrderStatus newStatus) {
-        Objects.requireNonNull(newStatus);
+        STATUS_MACHINE.transition(this, newStatus);
+    }
 
-        if (this.status.canNotChangeTo(newStatus)) {
-            throw new OrderStatusCannotBeChangedException(this.id(), this.status(), newStatus);
+    private void registerEvent(DomainEvent event) {
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>(2);
         }
-
-        this.setStatus(newStatus);
+        this.domainEvents.add(event);
     }
 
     private void verifyIfCanChangeToPlaced() {
+        PlacementViolation violation = this.findPlacementViolation();
+        if (violation != null) {
+            throw violation.exception(this.id());
+        }
+    }
+
+    private PlacementViolation findPlacementViolation() {
         if (this.shipping() == null) {
-            throw OrderCannotBePlacedException.noShippingInfo(this.id());
+            return PlacementViolation.NO_SHIPPING_INFO;
         }
         if (this.billing() == null) {
-            throw OrderCannotBePlacedException.noBillingInfo(this.id());
+            return PlacementViolation.NO_BILLING_INFO;
         }
         if (this.paymentMethod() == null) {
-            throw OrderCannotBePlacedException.noPaymentMethod(this.id());
+            return PlacementViolation.NO_PAYMENT_METHOD;
         }
         if (this.items() == null || this.items.isEmpty()) {
-            throw OrderCannotBePlacedException.noItems(this.id());
+            return PlacementViolation.NO_ITEMS;
         }
+        return null;
     }
 
     private OrderItem findOrderItem(OrderItemId orderItemId) {
         Objects.requireNonNull(orderItemId);
 
-        return this.items.stream()
-            .filter(i -> i.id().equals(orderItemId))
-            .findFirst()
-            .orElseThrow(() -> new OrderDoesNotContainOrderItemException(this.id(), orderItemId));
+        OrderItem orderItem = this.itemsById.get(orderItemId);
+        if (orderItem == null) {
+            throw new OrderDoesNotContainOrderItemException(this.id(), orderItemId);
+        }
+        return orderItem;
     }
 
     private void verifyIfChangeable() {
@@ -300,6 +393,10 @@ public class Order implements AggregateRoot<OrderId> {
         this.id = id;
     }
 
+    private void setVersion(Long version) {
+        this.version = version;
+    }
+
     private void setCustomerId(CustomerId customerId) {
         Objects.requireNonNull(customerId);
         this.customerId = customerId;
@@ -351,6 +448,14 @@ public class Order implements AggregateRoot<OrderId> {
     private void setItems(Set<OrderItem> items) {
         Objects.requireNonNull(items);
         this.items = items;
+        this.itemsById = new HashMap<>(Math.max(16, items.size() * 2));
+        this.itemsTotalAmount = BigDecimal.ZERO;
+        this.itemsTotalQuantity = 0;
+
+        for (OrderItem orderItem : items) {
+            this.itemsById.put(orderItem.id(), orderItem);
+            this.includeInItemTotals(orderItem);
+        }
     }
 
     @Override
@@ -364,4 +469,50 @@ public class Order implements AggregateRoot<OrderId> {
     public int hashCode() {
         return Objects.hashCode(id);
     }
+
+    public record PersistenceState(Long version, List<DomainEvent> domainEvents) {
+
+        public PersistenceState {
+            domainEvents = List.copyOf(domainEvents);
+        }
+    }
+
+    private enum PlacementViolation {
+        NO_SHIPPING_INFO(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_SHIPPING_INFO) {
+            @Override
+            OrderCannotBePlacedException exception(OrderId id) {
+                return OrderCannotBePlacedException.noShippingInfo(id);
+            }
+        },
+        NO_BILLING_INFO(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_BILLING_INFO) {
+            @Override
+            OrderCannotBePlacedException exception(OrderId id) {
+                return OrderCannotBePlacedException.noBillingInfo(id);
+            }
+        },
+        NO_PAYMENT_METHOD(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_PAYMENT_METHOD) {
+            @Override
+            OrderCannotBePlacedException exception(OrderId id) {
+                return OrderCannotBePlacedException.noPaymentMethod(id);
+            }
+        },
+        NO_ITEMS(ERROR_ORDER_CANNOT_BE_PLACED_HAS_NO_ITEMS) {
+            @Override
+            OrderCannotBePlacedException exception(OrderId id) {
+                return OrderCannotBePlacedException.noItems(id);
+            }
+        };
+
+        private final String messageFormat;
+
+        PlacementViolation(String messageFormat) {
+            this.messageFormat = messageFormat;
+        }
+
+        String message(OrderId id) {
+            return String.format(messageFormat, id);
+        }
+
+        abstract OrderCannotBePlacedException exception(OrderId id);
+    }
 }
@@ -1,7 +1,8 @@
 package br.com.mardoniorodrigues.ordering.domain.model.entity;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 public enum OrderStatus {
 
@@ -11,18 +12,66 @@ public enum OrderStatus {
     READY(PAID),
     CANCELED(READY, PAID, PLACED, DRAFT);
 
+    private static final OrderStatus[] VALUES = values();
+
+    /*
+     * Bitmask of the statuses each status can change to, indexed by ordinal.
+     * Built once from the previous statuses declared on each constant.
+     */
+    private static final int[] NEXT_STATUSES = new int[VALUES.length];
+
+    static {
+        for (OrderStatus status : VALUES) {
+            for (OrderStatus previousStatus : status.previousStatuses) {
+                NEXT_STATUSES[previousStatus.ordinal()] |= status.mask();
+            }
+        }
+    }
+
     OrderStatus(OrderStatus... previousStatuses) {
-        this.previousStatuses = Arrays.asList(previousStatuses);
+        this.previousStatuses = previousStatuses;
     }
 
-    private final List<OrderStatus> previousStatuses;
+    private final OrderStatus[] previousStatuses;
 
     public boolean canChange(OrderStatus newStatus) {
-        OrderStatus currentStatus = this;
-        return newStatus.previousStatuses.contains(currentStatus);
+        return (NEXT_STATUSES[this.ordinal()] & newStatus.mask()) != 0;
     }
 
     public boolean canNotChangeTo(OrderStatus newStatus) {
         return !canChange(newStatus);
     }
+
+    public Set<OrderStatus> nextStatuses() {
+        EnumSet<OrderStatus> nextStatuses = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : VALUES) {
+            if (canChange(status)) {
+                nextStatuses.add(status);
+            }
+        }
+        return nextStatuses;
+    }
+
+    public static int canChangeAll(OrderStatus[] currentStatuses, OrderStatus[] newStatuses, boolean[] results) {
+        Objects.requireNonNull(currentStatuses);
+        Objects.requireNonNull(newStatuses);
+        Objects.requireNonNull(results);
+        if (currentStatuses.length != newStatuses.length || results.length < currentStatuses.length) {
+            throw new IllegalArgumentException();
+        }
+
+        int allowed = 0;
+        for (int i = 0; i < currentStatuses.length; i++) {
+            boolean canChange = (NEXT_STATUSES[currentStatuses[i].ordinal()] & newStatuses[i].mask()) != 0;
+            results[i] = canChange;
+            if (canChange) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    private int mask() {
+        return 1 << this.ordinal();
+    }
 }
@@ -0,0 +1,72 @@
+package br.com.mardoniorodrigues.ordering.domain.model.entity;
+
+import br.com.mardoniorodrigues.ordering.domain.model.exception.OrderStatusCannotBeChangedException;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class OrderStatusMachine {
+
+    private static final OrderStatusTransitionListener[] NO_LISTENERS = new OrderStatusTransitionListener[0];
+
+    private final OrderStatusTransitionListener[][] listenersByTarget;
+
+    private OrderStatusMachine(OrderStatusTransitionListener[][] listenersByTarget) {
+        this.listenersByTarget = listenersByTarget;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public void transition(Order order, OrderStatus newStatus) {
+        Objects.requireNonNull(order);
+        Objects.requireNonNull(newStatus);
+
+        OrderStatus currentStatus = order.status();
+        if (currentStatus.canNotChangeTo(newStatus)) {
+            throw new OrderStatusCannotBeChangedException(order.id(), currentStatus, newStatus);
+        }
+
+        OffsetDateTime at = OffsetDateTime.now();
+        for (OrderStatusTransitionListener listener : listenersByTarget[newStatus.ordinal()]) {
+            listener.onTransition(order, currentStatus, newStatus, at);
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<OrderStatus, List<OrderStatusTransitionListener>> listeners = new EnumMap<>(OrderStatus.class);
+
+        private Builder() {}
+
+        public Builder onAny(OrderStatusTransitionListener listener) {
+            Objects.requireNonNull(listener);
+            for (OrderStatus status : OrderStatus.values()) {
+                on(status, listener);
+            }
+            return this;
+        }
+
+        public Builder on(OrderStatus status, OrderStatusTransitionListener listener) {
+            Objects.requireNonNull(status);
+            Objects.requireNonNull(listener);
+            listeners.computeIfAbsent(status, s -> new ArrayList<>()).add(listener);
+            return this;
+        }
+
+        public OrderStatusMachine build() {
+            OrderStatus[] statuses = OrderStatus.values();
+            OrderStatusTransitionListener[][] listenersByTarget = new OrderStatusTransitionListener[statuses.length][];
+            Arrays.fill(listenersByTarget, NO_LISTENERS);
+            listeners.forEach((status, statusListeners) ->
+                listenersByTarget[status.ordinal()] = statusListeners.toArray(NO_LISTENERS));
+            return new OrderStatusMachine(listenersByTarget);
+        }
+    }
+}
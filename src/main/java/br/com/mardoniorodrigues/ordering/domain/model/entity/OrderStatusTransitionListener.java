@@ -0,0 +1,9 @@
+package br.com.mardoniorodrigues.ordering.domain.model.entity;
+
+import java.time.OffsetDateTime;
+
+@FunctionalInterface
+public interface OrderStatusTransitionListener {
+
+    void onTransition(Order order, OrderStatus from, OrderStatus to, OffsetDateTime at);
+}
@@ -24,6 +24,12 @@ public class ShoppingCart implements AggregateRoot<ShoppingCartId> {
     private OffsetDateTime createdAt;
     private Set<ShoppingCartItem> items;
 
+    private Map<ShoppingCartItemId, ShoppingCartItem> itemsById;
+    private Map<ProductId, ShoppingCartItem> itemsByProductId;
+
+    private BigDecimal itemsTotalAmount;
+    private int itemsTotalQuantity;
+
     @Builder(builderClassName = "ExistingShoppingCartBuilder", builderMethodName = "existing")
     public ShoppingCart(ShoppingCartId id, CustomerId customerId,
                         Money totalAmount, Quantity totalItems, OffsetDateTime createdAt,
@@ -43,6 +49,10 @@ public class ShoppingCart implements AggregateRoot<ShoppingCartId> {
 
     public void empty() {
         items.clear();
+        itemsById.clear();
+        itemsByProductId.clear();
+        itemsTotalAmount = BigDecimal.ZERO;
+        itemsTotalQuantity = 0;
         totalAmount = Money.ZERO;
         totalItems = Quantity.ZERO;
     }
@@ -50,6 +60,9 @@ public class ShoppingCart implements AggregateRoot<ShoppingCartId> {
     public void removeItem(ShoppingCartItemId shoppingCartItemId) {
         ShoppingCartItem shoppingCartItem = this.findItem(shoppingCartItemId);
         this.items.remove(shoppingCartItem);
+        this.itemsById.remove(shoppingCartItem.id());
+        this.itemsByProductId.remove(shoppingCartItem.productId());
+        this.excludeFromItemTotals(shoppingCartItem);
         this.recalculateTotals();
     }
 
@@ -76,30 +89,42 @@ public class ShoppingCart implements AggregateRoot<ShoppingCartId> {
 
     public ShoppingCartItem findItem(ShoppingCartItemId shoppingCartItemId) {
         Objects.requireNonNull(shoppingCartItemId);
-        return this.items.stream()
-            .filter(i -> i.id().equals(shoppingCartItemId))
-            .findFirst()
-            .orElseThrow(() -> new ShoppingCartDoesNotContainItemException(this.id(), shoppingCartItemId));
+        ShoppingCartItem shoppingCartItem = this.itemsById.get(shoppingCartItemId);
+        if (shoppingCartItem == null) {
+            throw new ShoppingCartDoesNotContainItemException(this.id(), shoppingCartItemId);
+        }
+        return shoppingCartItem;
     }
 
     public ShoppingCartItem findItem(ProductId productId) {
-        Objects.requireNonNull(productId);
-        return this.items.stream()
-            .filter(i -> i.productId().equals(productId))
-            .findFirst()
+        return searchItemByProduct(productId)
             .orElseThrow(() -> new ShoppingCartDoesNotContainProductException(this.id(), productId));
     }
 
     public void refreshItem(Product product) {
         ShoppingCartItem shoppingCartItem = this.findItem(product.id());
-        shoppingCartItem.refresh(product);
-        this.recalculateTotals();
+        Money previousAmount = shoppingCartItem.totalAmount();
+        Quantity previousQuantity = shoppingCartItem.quantity();
+
+        try {
+            shoppingCartItem.refresh(product);
+        } finally {
+            this.applyItemTotalsChange(shoppingCartItem, previousAmount, previousQuantity);
+            this.recalculateTotals();
+        }
     }
 
     public void changeItemQuantity(ShoppingCartItemId shoppingCartItemId, Quantity quantity) {
         ShoppingCartItem shoppingCartItem = this.findItem(shoppingCartItemId);
-        shoppingCartItem.changeQuantity(quantity);
-        this.recalculateTotals();
+        Money previousAmount = shoppingCartItem.totalAmount();
+        Quantity previousQuantity = shoppingCartItem.quantity();
+
+        try {
+            shoppingCartItem.changeQuantity(quantity);
+        } finally {
+            this.applyItemTotalsChange(shoppingCartItem, previousAmount, previousQuantity);
+            this.recalculateTotals();
+        }
     }
 
     public boolean containsUnavailableItems() {
@@ -135,32 +160,50 @@ public class ShoppingCart implements AggregateRoot<ShoppingCartId> {
     }
 
     private void updateItem(ShoppingCartItem shoppingCartItem, Product product, Quantity quantity) {
-        shoppingCartItem.refresh(product);
-        shoppingCartItem.changeQuantity(shoppingCartItem.quantity().add(quantity));
+        Quantity newQuantity = shoppingCartItem.quantity().add(quantity);
+        Money previousAmount = shoppingCartItem.totalAmount();
+        Quantity previousQuantity = shoppingCartItem.quantity();
+
+        // the running totals must follow whatever state the item was left in
+        try {
+            shoppingCartItem.refresh(product);
+            shoppingCartItem.changeQuantity(newQuantity);
+        } finally {
+            this.applyItemTotalsChange(shoppingCartItem, previousAmount, previousQuantity);
+        }
     }
 
     private void insertItem(ShoppingCartItem shoppingCartItem) {
         this.items.add(shoppingCartItem);
+        this.itemsById.put(shoppingCartItem.id(), shoppingCartItem);
+        this.itemsByProductId.put(shoppingCartItem.productId(), shoppingCartItem);
+        this.includeInItemTotals(shoppingCartItem);
     }
 
     private Optional<ShoppingCartItem> searchItemByProduct(ProductId productId) {
         Objects.requireNonNull(productId);
-        return this.items.stream()
-            .filter(i -> i.productId().equals(productId))
-            .findFirst();
+        return Optional.ofNullable(this.itemsByProductId.get(productId));
     }
 
     private void recalculateTotals() {
-        BigDecimal totalAmount = items.stream()
-            .map(i -> i.totalAmount().value())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.totalAmount = new Money(this.itemsTotalAmount);
+        this.totalItems = Quantity.of(this.itemsTotalQuantity);
+    }
+
+    private void includeInItemTotals(ShoppingCartItem shoppingCartItem) {
+        this.itemsTotalAmount = this.itemsTotalAmount.add(shoppingCartItem.totalAmount().value());
+        this.itemsTotalQuantity += shoppingCartItem.quantity().value();
+    }
 
-        Integer totalItems = items.stream()
-            .map(i -> i.quantity().value())
-            .reduce(0, Integer::sum);
+    private void excludeFromItemTotals(ShoppingCartItem shoppingCartItem) {
+        this.itemsTotalAmount = this.itemsTotalAmount.subtract(shoppingCartItem.totalAmount().value());
+        this.itemsTotalQuantity -= shoppingCartItem.quantity().value();
+    }
 
-        this.totalAmount = new Money(totalAmount);
-        this.totalItems = new Quantity(totalItems);
+    private void applyItemTotalsChange(ShoppingCartItem shoppingCartItem, Money previousAmount, Quantity previousQuantity) {
+        this.itemsTotalAmount = this.itemsTotalAmount.subtract(previousAmount.value())
+            .add(shoppingCartItem.totalAmount().value());
+        this.itemsTotalQuantity += shoppingCartItem.quantity().value() - previousQuantity.value();
     }
 
     private void setId(ShoppingCartId id) {
@@ -191,6 +234,16 @@ public class ShoppingCart implements AggregateRoot<ShoppingCartId> {
     private void setItems(Set<ShoppingCartItem> items) {
         Objects.requireNonNull(items);
         this.items = items;
+        this.itemsById = new HashMap<>(Math.max(16, items.size() * 2));
+        this.itemsByProductId = new HashMap<>(Math.max(16, items.size() * 2));
+        this.itemsTotalAmount = BigDecimal.ZERO;
+        this.itemsTotalQuantity = 0;
+
+        for (ShoppingCartItem shoppingCartItem : items) {
+            this.itemsById.put(shoppingCartItem.id(), shoppingCartItem);
+            this.itemsByProductId.put(shoppingCartItem.productId(), shoppingCartItem);
+            this.includeInItemTotals(shoppingCartItem);
+        }
     }
 
     @Override
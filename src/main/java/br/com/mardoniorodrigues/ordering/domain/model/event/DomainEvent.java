@@ -0,0 +1,8 @@
+package br.com.mardoniorodrigues.ordering.domain.model.event;
+
+import java.time.OffsetDateTime;
+
+public interface DomainEvent {
+
+    OffsetDateTime occurredAt();
+}
@@ -0,0 +1,16 @@
+package br.com.mardoniorodrigues.ordering.domain.model.event;
+
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record OrderCanceledEvent(OrderId orderId, CustomerId customerId, OffsetDateTime occurredAt) implements OrderEvent {
+
+    public OrderCanceledEvent {
+        Objects.requireNonNull(orderId);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(occurredAt);
+    }
+}
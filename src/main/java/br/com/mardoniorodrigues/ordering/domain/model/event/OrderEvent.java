@@ -0,0 +1,12 @@
+package br.com.mardoniorodrigues.ordering.domain.model.event;
+
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+
+public sealed interface OrderEvent extends DomainEvent
+    permits OrderPlacedEvent, OrderPaidEvent, OrderReadyEvent, OrderCanceledEvent {
+
+    OrderId orderId();
+
+    CustomerId customerId();
+}
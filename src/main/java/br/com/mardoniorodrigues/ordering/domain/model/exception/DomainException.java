@@ -2,11 +2,18 @@ package br.com.mardoniorodrigues.ordering.domain.model.exception;
 
 public class DomainException extends RuntimeException{
 
+    /*
+     * Domain exceptions describe business outcomes, so their stack traces are
+     * rarely useful. Starting the JVM with -Dordering.domain.stackless-exceptions=true
+     * skips filling them in.
+     */
+    private static final boolean STACKLESS = Boolean.getBoolean("ordering.domain.stackless-exceptions");
+
     public DomainException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, !STACKLESS);
     }
 
     public DomainException(String message) {
-        super(message);
+        super(message, null, true, !STACKLESS);
     }
 }
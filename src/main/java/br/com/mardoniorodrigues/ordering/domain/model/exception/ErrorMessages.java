@@ -11,6 +11,9 @@ public class ErrorMessages {
     public static final String VALIDATION_ERROR_EMAIL_IS_INVALID
             = "Email is invalid";
 
+    public static final String VALIDATION_ERROR_QUANTITY_IS_NEGATIVE
+            = "Quantity cannot be negative";
+
     public static final String ERROR_CUSTOMER_ARCHIVED
             = "Customer is archived it cannot be changed";
 
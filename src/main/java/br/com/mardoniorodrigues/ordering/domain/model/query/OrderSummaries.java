@@ -0,0 +1,14 @@
+package br.com.mardoniorodrigues.ordering.domain.model.query;
+
+import br.com.mardoniorodrigues.ordering.domain.model.repository.CursorPage;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+
+import java.util.Optional;
+
+public interface OrderSummaries {
+
+    Optional<OrderSummary> ofId(OrderId orderId);
+
+    CursorPage<OrderSummary> ofCustomer(CustomerId customerId, String cursor, int size);
+}
@@ -0,0 +1,28 @@
+package br.com.mardoniorodrigues.ordering.domain.model.query;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Money;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Quantity;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public record OrderSummary(
+    OrderId id,
+    CustomerId customerId,
+    OrderStatus status,
+    Money totalAmount,
+    Quantity totalItems,
+    OffsetDateTime placedAt
+) {
+
+    public OrderSummary {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(status);
+        Objects.requireNonNull(totalAmount);
+        Objects.requireNonNull(totalItems);
+    }
+}
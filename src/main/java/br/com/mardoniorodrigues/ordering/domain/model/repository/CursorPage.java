@@ -0,0 +1,34 @@
+package br.com.mardoniorodrigues.ordering.domain.model.repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    public CursorPage {
+        Objects.requireNonNull(content);
+        content = List.copyOf(content);
+    }
+
+    public static <T> CursorPage<T> of(List<T> contentWithLookahead, int size, Function<T, String> cursorOf) {
+        Objects.requireNonNull(contentWithLookahead);
+        Objects.requireNonNull(cursorOf);
+
+        if (contentWithLookahead.size() <= size) {
+            return new CursorPage<>(contentWithLookahead, null);
+        }
+
+        List<T> content = contentWithLookahead.subList(0, size);
+        return new CursorPage<>(content, cursorOf.apply(content.getLast()));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
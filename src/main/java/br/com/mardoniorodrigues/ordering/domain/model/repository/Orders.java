@@ -1,7 +1,21 @@
 package br.com.mardoniorodrigues.ordering.domain.model.repository;
 
 import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
 public interface Orders extends Repository<Order, OrderId> {
+
+    void addAll(Collection<Order> aggregateRoots);
+
+    CursorPage<Order> ofCustomer(CustomerId customerId, String cursor, int size);
+
+    CursorPage<Order> createdBetween(OffsetDateTime from, OffsetDateTime to, String cursor, int size);
+
+    Optional<OrderStatus> statusOf(OrderId orderId);
 }
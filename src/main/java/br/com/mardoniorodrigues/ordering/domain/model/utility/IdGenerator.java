@@ -4,19 +4,37 @@ import com.fasterxml.uuid.Generators;
 import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
 import io.hypersistence.tsid.TSID;
 
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public class IdGenerator {
 
-    private static final TimeBasedEpochRandomGenerator timeBasedEpochRandomGenerator
-            = Generators.timeBasedEpochRandomGenerator();
+    private static final int TSID_RANDOM_BITS = 22;
+    private static final int TSID_DEFAULT_NODE_BITS = 10;
 
-    private static final TSID.Factory tsidFactory = TSID.Factory.INSTANCE;
+    /*
+     * Optional, for hosts with many cores: TSID_STRIPES (power of two) spreads
+     * TSID generation over that many factories and gives each thread its own
+     * UUID generator; TSID_BLOCK_SIZE lets each thread take TSIDs in blocks.
+     * Both default to 1, which keeps the single shared generators.
+     * TSID_BLOCK_MAX_AGE_MS caps how long a block is used before it is
+     * refilled, and so how far an id's time may trail its creation.
+     */
+    private static final int TSID_STRIPES = intSetting("tsid.stripes", "TSID_STRIPES", 1);
+    private static final int TSID_BLOCK_SIZE = intSetting("tsid.block.size", "TSID_BLOCK_SIZE", 1);
+    private static final int TSID_BLOCK_MAX_AGE_MS = intSetting("tsid.block.max-age-ms", "TSID_BLOCK_MAX_AGE_MS", 5);
+
+    private static final Supplier<UUID> timeBasedUUIDs = timeBasedUUIDs();
+
+    private static final Supplier<TSID> tsids = tsids();
 
     private IdGenerator() {}
 
     public static UUID generateTimeBasedUUID() {
-        return timeBasedEpochRandomGenerator.generate();
+        return timeBasedUUIDs.get();
     }
 
     /*
@@ -24,7 +42,55 @@ public class IdGenerator {
     * Reference: https://github.com/vladmihalcea/hypersistence-tsid
      */
     public static TSID generateTSID() {
-        return tsidFactory.generate();
+        return tsids.get();
+    }
+
+    public static TSID lowestTSIDAt(Instant instant) {
+        long millisSinceEpoch = Math.max(0, instant.toEpochMilli() - TSID.TSID_EPOCH);
+        return TSID.from(millisSinceEpoch << TSID_RANDOM_BITS);
+    }
+
+    private static Supplier<UUID> timeBasedUUIDs() {
+        if (TSID_STRIPES == 1) {
+            TimeBasedEpochRandomGenerator generator = Generators.timeBasedEpochRandomGenerator();
+            return generator::generate;
+        }
+        ThreadLocal<TimeBasedEpochRandomGenerator> generators =
+            ThreadLocal.withInitial(() -> Generators.timeBasedEpochRandomGenerator(threadSecureRandom()));
+        return () -> generators.get().generate();
+    }
+
+    private static Supplier<TSID> tsids() {
+        if (TSID_STRIPES == 1 && TSID_BLOCK_SIZE == 1) {
+            TSID.Factory factory = TSID.Factory.INSTANCE;
+            return factory::generate;
+        }
+
+        int nodeCount = intSetting("tsid.node.count", "TSID_NODE_COUNT", 1 << TSID_DEFAULT_NODE_BITS);
+        int nodeBits = nodeCount > 1 ? 32 - Integer.numberOfLeadingZeros(nodeCount - 1) : 0;
+        int node = intSetting("tsid.node", "TSID_NODE", nodeBits > 0 ? new SecureRandom().nextInt(1 << nodeBits) : 0);
+
+        StripedTSIDFactory factory = new StripedTSIDFactory(node, nodeBits, TSID_STRIPES, TSID_BLOCK_SIZE, TSID_BLOCK_MAX_AGE_MS);
+        return factory::generate;
+    }
+
+    private static SecureRandom threadSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    private static int intSetting(String property, String environmentVariable, int defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(environmentVariable);
+        }
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
     }
 
 }
@@ -0,0 +1,94 @@
+package br.com.mardoniorodrigues.ordering.domain.model.utility;
+
+import io.hypersistence.tsid.TSID;
+
+/*
+ * Spreads TSID generation over several factories so threads do not all queue
+ * on the same lock. Each stripe owns a distinct node id, built from the
+ * deployment node in the high bits and the stripe index in the low bits,
+ * which keeps ids unique across stripes and nodes. Ids stay ordered by
+ * their millisecond prefix; within a millisecond only per stripe.
+ *
+ * With a block size above one each thread takes ids from its stripe in
+ * blocks, for fewer lock acquisitions. An id then carries the time its block
+ * was filled, not the time it was handed out, so a block is dropped and
+ * refilled once it is older than the configured max age. That age bounds how
+ * far an id's time prefix can lag its creation, which is the slack callers
+ * deriving time windows from ids (createdBetween) and keyset ordering by id
+ * must tolerate.
+ */
+final class StripedTSIDFactory {
+
+    static final int MAX_NODE_BITS = 20;
+
+    private final TSID.Factory[] stripes;
+    private final int stripeMask;
+    private final long blockMaxAgeMillis;
+    private final ThreadLocal<Block> blocks;
+
+    StripedTSIDFactory(int node, int nodeBits, int stripeCount, int blockSize, long blockMaxAgeMillis) {
+        if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("TSID stripes must be a power of two: " + stripeCount);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("TSID block size must be positive: " + blockSize);
+        }
+        if (blockMaxAgeMillis < 0) {
+            throw new IllegalArgumentException("TSID block max age must not be negative: " + blockMaxAgeMillis);
+        }
+
+        int stripeBits = Integer.numberOfTrailingZeros(stripeCount);
+        int stripedNodeBits = nodeBits + stripeBits;
+        if (nodeBits < 0 || stripedNodeBits > MAX_NODE_BITS) {
+            throw new IllegalArgumentException(
+                "TSID node bits plus stripe bits must be between 0 and " + MAX_NODE_BITS + ": " + stripedNodeBits);
+        }
+
+        this.stripes = new TSID.Factory[stripeCount];
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            this.stripes[stripe] = TSID.Factory.builder()
+                .withNodeBits(stripedNodeBits)
+                .withNode((node << stripeBits) | stripe)
+                .build();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.blockMaxAgeMillis = blockMaxAgeMillis;
+        this.blocks = blockSize > 1 ? ThreadLocal.withInitial(() -> new Block(blockSize)) : null;
+    }
+
+    TSID generate() {
+        if (blocks == null) {
+            return stripe().generate();
+        }
+        return TSID.from(blocks.get().next());
+    }
+
+    private TSID.Factory stripe() {
+        return stripes[(int) Thread.currentThread().threadId() & stripeMask];
+    }
+
+    private final class Block {
+
+        private final long[] ids;
+        private int next;
+        private long filledAt;
+
+        private Block(int size) {
+            this.ids = new long[size];
+            this.next = size;
+        }
+
+        private long next() {
+            long now = System.currentTimeMillis();
+            if (next == ids.length || now - filledAt > blockMaxAgeMillis) {
+                TSID.Factory factory = stripe();
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = factory.generate().toLong();
+                }
+                next = 0;
+                filledAt = now;
+            }
+            return ids[next++];
+        }
+    }
+}
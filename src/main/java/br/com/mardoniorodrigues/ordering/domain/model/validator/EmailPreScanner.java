@@ -0,0 +1,102 @@
+package br.com.mardoniorodrigues.ordering.domain.model.validator;
+
+/*
+ * Single-pass ASCII scan that settles the common cases before the regex-based
+ * EmailValidator runs. It only answers when the answer is certain:
+ * VALID for plain addresses on well-known top-level domains, INVALID for
+ * inputs the full validator always rejects, and UNKNOWN for everything else.
+ */
+final class EmailPreScanner {
+
+    enum Verdict { VALID, INVALID, UNKNOWN }
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 253;
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    private static final String[] WELL_KNOWN_TLDS = {
+        "com", "net", "org", "edu", "gov", "info", "biz", "io", "br", "us", "uk", "de", "pt"
+    };
+
+    private EmailPreScanner() {
+    }
+
+    static Verdict scan(String email) {
+        int length = email.length();
+        int at = email.lastIndexOf('@');
+
+        if (at <= 0 || at == length - 1 || email.charAt(length - 1) == '.') {
+            return Verdict.INVALID;
+        }
+
+        if (isSimpleLocalPart(email, at) && isSimpleDomain(email, at + 1, length)) {
+            return Verdict.VALID;
+        }
+
+        return Verdict.UNKNOWN;
+    }
+
+    private static boolean isSimpleLocalPart(String email, int end) {
+        if (end > MAX_LOCAL_PART_LENGTH || email.charAt(0) == '.' || email.charAt(end - 1) == '.') {
+            return false;
+        }
+        char previous = 0;
+        for (int i = 0; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (previous == '.') {
+                    return false;
+                }
+            } else if (!isAsciiAlphanumeric(c) && c != '_' && c != '-' && c != '+') {
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+
+    private static boolean isSimpleDomain(String email, int start, int end) {
+        if (end - start > MAX_DOMAIN_LENGTH) {
+            return false;
+        }
+
+        int labelStart = start;
+        int labels = 0;
+        for (int i = start; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (!isSimpleLabel(email, labelStart, i)) {
+                    return false;
+                }
+                labels++;
+                labelStart = i + 1;
+            } else if (!isAsciiAlphanumeric(c) && c != '-') {
+                return false;
+            }
+        }
+
+        return labels >= 1 && isWellKnownTld(email, labelStart, end);
+    }
+
+    private static boolean isWellKnownTld(String email, int start, int end) {
+        int length = end - start;
+        for (String tld : WELL_KNOWN_TLDS) {
+            if (tld.length() == length && email.regionMatches(true, start, tld, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSimpleLabel(String email, int start, int end) {
+        int length = end - start;
+        return length > 0
+            && length <= MAX_LABEL_LENGTH
+            && email.charAt(start) != '-'
+            && email.charAt(end - 1) != '-';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -1,11 +1,19 @@
 package br.com.mardoniorodrigues.ordering.domain.model.validator;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.validator.routines.EmailValidator;
 
 import java.util.Objects;
 
 public class FieldValidations {
 
+    private static final int VALIDATED_EMAILS_MAXIMUM_SIZE = 10_000;
+
+    private static final Cache<String, Boolean> VALIDATED_EMAILS = Caffeine.newBuilder()
+        .maximumSize(VALIDATED_EMAILS_MAXIMUM_SIZE)
+        .build();
+
     private FieldValidations() {
 
     }
@@ -28,13 +36,27 @@ public class FieldValidations {
     public static void requiresValidEmail(String email, String errorMessage) {
         Objects.requireNonNull(email, errorMessage);
 
-        if (email.isBlank()) {
+        if (!isValidEmail(email)) {
             throw new IllegalArgumentException(errorMessage);
         }
+    }
 
-        if (!EmailValidator.getInstance().isValid(email)) {
-            throw new IllegalArgumentException(errorMessage);
+    public static ValidationResult validateEmail(String email, String errorMessage) {
+        if (email == null || !isValidEmail(email)) {
+            return ValidationResult.failure(errorMessage);
+        }
+        return ValidationResult.ok();
+    }
+
+    private static boolean isValidEmail(String email) {
+        if (email.isBlank()) {
+            return false;
         }
+        return switch (EmailPreScanner.scan(email)) {
+            case VALID -> true;
+            case INVALID -> false;
+            case UNKNOWN -> VALIDATED_EMAILS.get(email, e -> EmailValidator.getInstance().isValid(e));
+        };
     }
 
 }
@@ -0,0 +1,21 @@
+package br.com.mardoniorodrigues.ordering.domain.model.validator;
+
+import java.util.Objects;
+
+public record ValidationResult(boolean valid, String message) {
+
+    private static final ValidationResult OK = new ValidationResult(true, null);
+
+    public static ValidationResult ok() {
+        return OK;
+    }
+
+    public static ValidationResult failure(String message) {
+        Objects.requireNonNull(message);
+        return new ValidationResult(false, message);
+    }
+
+    public boolean invalid() {
+        return !valid;
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.mardoniorodrigues.ordering.domain.model.valueObject;
 
 import br.com.mardoniorodrigues.ordering.domain.model.validator.FieldValidations;
+import br.com.mardoniorodrigues.ordering.domain.model.validator.ValidationResult;
 
 import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.VALIDATION_ERROR_EMAIL_IS_INVALID;
 
@@ -14,6 +15,10 @@ public record Email(String value) {
         }
     }
 
+    public static ValidationResult tryValidate(String value) {
+        return FieldValidations.validateEmail(value, VALIDATION_ERROR_EMAIL_IS_INVALID);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -2,42 +2,55 @@ package br.com.mardoniorodrigues.ordering.domain.model.valueObject;
 
 import java.util.Objects;
 
-public record LoyaltyPoints(Integer value) implements Comparable<LoyaltyPoints> {
+public record LoyaltyPoints(int value) implements Comparable<LoyaltyPoints> {
 
-    public static final LoyaltyPoints ZERO = new LoyaltyPoints(0);
+    private static final int CACHE_SIZE = 1024;
+    private static final LoyaltyPoints[] CACHE = new LoyaltyPoints[CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE[i] = new LoyaltyPoints(i);
+        }
+    }
+
+    public static final LoyaltyPoints ZERO = CACHE[0];
 
     public LoyaltyPoints() {
         this(0);
     }
 
-    public LoyaltyPoints(Integer value) {
-        Objects.requireNonNull(value);
+    public LoyaltyPoints {
         if (value < 0) {
             throw new IllegalArgumentException();
         }
-        this.value = value;
     }
 
-    public LoyaltyPoints add(Integer value) {
-        return add(new LoyaltyPoints(value));
+    public static LoyaltyPoints of(int value) {
+        if (value >= 0 && value < CACHE_SIZE) {
+            return CACHE[value];
+        }
+        return new LoyaltyPoints(value);
     }
 
-    public LoyaltyPoints add(LoyaltyPoints loyaltyPoints) {
-        Objects.requireNonNull(loyaltyPoints);
-        if (loyaltyPoints.value <= 0) {
+    public LoyaltyPoints add(int value) {
+        if (value <= 0) {
             throw new IllegalArgumentException();
         }
+        return of(this.value + value);
+    }
 
-        return new LoyaltyPoints(this.value + loyaltyPoints.value);
+    public LoyaltyPoints add(LoyaltyPoints loyaltyPoints) {
+        Objects.requireNonNull(loyaltyPoints);
+        return add(loyaltyPoints.value);
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return String.valueOf(value);
     }
 
     @Override
     public int compareTo(LoyaltyPoints o) {
-        return this.value().compareTo(o.value());
+        return Integer.compare(this.value, o.value);
     }
 }
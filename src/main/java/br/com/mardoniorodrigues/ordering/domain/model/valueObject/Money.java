@@ -4,11 +4,24 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
-public record Money(BigDecimal value) implements Comparable<Money>{
+public final class Money implements Comparable<Money> {
 
     private static final RoundingMode routingMode = RoundingMode.HALF_EVEN;
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    private static final int SCALE = 2;
+    private static final long CENTS_PER_UNIT = 100L;
+    private static final int MAX_CENTS_PRECISION = 18;
+
+    public static final Money ZERO = new Money(0L);
+
+    /*
+     * Amounts whose cents fit in a long are kept as cents and all arithmetic
+     * between them stays on longs. Anything larger, or any operation that
+     * overflows, falls back to BigDecimal with the same scale and rounding.
+     */
+    private final long cents;
+    private final boolean compact;
+    private BigDecimal value;
 
     public Money(String value) {
         this(new BigDecimal(value));
@@ -16,10 +29,28 @@ public record Money(BigDecimal value) implements Comparable<Money>{
 
     public Money(BigDecimal value) {
         Objects.requireNonNull(value);
-        this.value = value.setScale(2, routingMode);
-        if (this.value.signum() == -1) {
+        BigDecimal scaled = value.setScale(SCALE, routingMode);
+        if (scaled.signum() == -1) {
             throw new IllegalArgumentException();
         }
+        this.value = scaled;
+        this.compact = scaled.precision() <= MAX_CENTS_PRECISION
+            || scaled.unscaledValue().bitLength() < Long.SIZE;
+        this.cents = this.compact ? scaled.unscaledValue().longValue() : 0L;
+    }
+
+    private Money(long cents) {
+        this.cents = cents;
+        this.compact = true;
+    }
+
+    public BigDecimal value() {
+        BigDecimal value = this.value;
+        if (value == null) {
+            value = BigDecimal.valueOf(cents, SCALE);
+            this.value = value;
+        }
+        return value;
     }
 
     public Money multiply(Quantity quantity) {
@@ -27,27 +58,75 @@ public record Money(BigDecimal value) implements Comparable<Money>{
         if (quantity.value() < 1) {
             throw new IllegalArgumentException();
         }
-        BigDecimal multiplied = this.value.multiply(new BigDecimal(quantity.value()));
+        if (compact) {
+            try {
+                return new Money(Math.multiplyExact(cents, (long) quantity.value()));
+            } catch (ArithmeticException e) {
+                // overflow, continue with BigDecimal
+            }
+        }
+        BigDecimal multiplied = this.value().multiply(new BigDecimal(quantity.value()));
         return new Money(multiplied);
     }
 
     public Money divide(Money money) {
         Objects.requireNonNull(money);
-        return new Money(this.value.divide(money.value, routingMode));
+        if (compact && money.compact && money.cents != 0) {
+            try {
+                return new Money(divideHalfEven(Math.multiplyExact(cents, CENTS_PER_UNIT), money.cents));
+            } catch (ArithmeticException e) {
+                // overflow, continue with BigDecimal
+            }
+        }
+        return new Money(this.value().divide(money.value(), routingMode));
     }
 
     public Money add(Money money) {
         Objects.requireNonNull(money);
-        return new Money(this.value.add(money.value));
+        if (compact && money.compact) {
+            try {
+                return new Money(Math.addExact(cents, money.cents));
+            } catch (ArithmeticException e) {
+                // overflow, continue with BigDecimal
+            }
+        }
+        return new Money(this.value().add(money.value()));
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return value().toString();
     }
 
     @Override
     public int compareTo(Money o) {
-        return this.value.compareTo(o.value);
+        if (compact && o.compact) {
+            return Long.compare(this.cents, o.cents);
+        }
+        return this.value().compareTo(o.value());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Money money = (Money) o;
+        if (compact != money.compact) return false;
+        return compact ? cents == money.cents : value.equals(money.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return compact ? Long.hashCode(cents) : value.hashCode();
+    }
+
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        int comparison = Long.compare(remainder, divisor - remainder);
+        if (comparison > 0 || (comparison == 0 && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
     }
 }
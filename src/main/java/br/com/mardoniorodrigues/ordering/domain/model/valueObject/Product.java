@@ -1,11 +1,14 @@
 package br.com.mardoniorodrigues.ordering.domain.model.valueObject;
 
 import br.com.mardoniorodrigues.ordering.domain.model.exception.ProductOutOfStockException;
+import br.com.mardoniorodrigues.ordering.domain.model.validator.ValidationResult;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ProductId;
 import lombok.Builder;
 
 import java.util.Objects;
 
+import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.ERROR_PRODUCT_IS_OUT_OF_STOCK;
+
 @Builder
 public record Product(
     ProductId id,
@@ -27,6 +30,13 @@ public record Product(
         }
     }
 
+    public ValidationResult tryCheckOutOfStock() {
+        if (isOutOfStock()) {
+            return ValidationResult.failure(String.format(ERROR_PRODUCT_IS_OUT_OF_STOCK, this.id()));
+        }
+        return ValidationResult.ok();
+    }
+
     private boolean isOutOfStock() {
         return !inStock();
     }
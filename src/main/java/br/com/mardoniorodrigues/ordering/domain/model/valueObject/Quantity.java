@@ -1,21 +1,47 @@
 package br.com.mardoniorodrigues.ordering.domain.model.valueObject;
 
+import br.com.mardoniorodrigues.ordering.domain.model.validator.ValidationResult;
+
 import java.util.Objects;
 
-public record Quantity(Integer value) implements Comparable<Quantity>{
+import static br.com.mardoniorodrigues.ordering.domain.model.exception.ErrorMessages.VALIDATION_ERROR_QUANTITY_IS_NEGATIVE;
+
+public record Quantity(int value) implements Comparable<Quantity>{
 
-    public static final Quantity ZERO = new Quantity(0);
+    private static final int CACHE_SIZE = 1024;
+    private static final Quantity[] CACHE = new Quantity[CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE[i] = new Quantity(i);
+        }
+    }
+
+    public static final Quantity ZERO = CACHE[0];
 
     public Quantity {
-        Objects.requireNonNull(value);
         if (value < 0) {
             throw new IllegalArgumentException();
         }
     }
 
+    public static ValidationResult tryValidate(int value) {
+        if (value < 0) {
+            return ValidationResult.failure(VALIDATION_ERROR_QUANTITY_IS_NEGATIVE);
+        }
+        return ValidationResult.ok();
+    }
+
+    public static Quantity of(int value) {
+        if (value >= 0 && value < CACHE_SIZE) {
+            return CACHE[value];
+        }
+        return new Quantity(value);
+    }
+
     public Quantity add(Quantity quantity) {
         Objects.requireNonNull(quantity);
-        return new Quantity(this.value + quantity.value());
+        return of(this.value + quantity.value());
     }
 
     @Override
@@ -25,6 +51,6 @@ public record Quantity(Integer value) implements Comparable<Quantity>{
 
     @Override
     public int compareTo(Quantity o) {
-        return this.value.compareTo(o.value);
+        return Integer.compare(this.value, o.value);
     }
 }
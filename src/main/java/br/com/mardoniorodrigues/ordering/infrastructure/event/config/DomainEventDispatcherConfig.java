@@ -0,0 +1,24 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.config;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch.DomainEventHandler;
+import br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch.RingBufferDomainEventDispatcher;
+import br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch.WaitStrategy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "ordering.events.dispatcher.enabled", havingValue = "true")
+public class DomainEventDispatcherConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public RingBufferDomainEventDispatcher domainEventDispatcher(
+        ObjectProvider<DomainEventHandler> handlers,
+        @Value("${ordering.events.dispatcher.buffer-size:1024}") int bufferSize,
+        @Value("${ordering.events.dispatcher.wait-strategy:SLEEPING}") WaitStrategy waitStrategy
+    ) {
+        return new RingBufferDomainEventDispatcher(bufferSize, waitStrategy, handlers.orderedStream().toList());
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.config;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.event.outbox.OutboxEventSink;
+import br.com.mardoniorodrigues.ordering.infrastructure.event.outbox.OutboxRelay;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OutboxEventPersistenceEntityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+ * The relay deletes every row it hands to the sink, so it is off by default
+ * and, once enabled, needs an OutboxEventSink bean from the application.
+ * There is deliberately no fallback sink: LoggingOutboxEventSink is only for
+ * local runs and must be declared explicitly.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "ordering.outbox.relay.enabled", havingValue = "true")
+public class OutboxRelayConfig {
+
+    @Bean
+    public OutboxRelay outboxRelay(
+        OutboxEventPersistenceEntityRepository outboxRepository,
+        OutboxEventSink outboxEventSink,
+        PlatformTransactionManager transactionManager,
+        @Value("${ordering.outbox.relay.batch-size:100}") int batchSize
+    ) {
+        return new OutboxRelay(outboxRepository, outboxEventSink, transactionManager, batchSize);
+    }
+}
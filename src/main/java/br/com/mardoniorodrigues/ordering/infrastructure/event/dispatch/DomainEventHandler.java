@@ -0,0 +1,9 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch;
+
+import br.com.mardoniorodrigues.ordering.domain.model.event.DomainEvent;
+
+@FunctionalInterface
+public interface DomainEventHandler {
+
+    void onEvent(DomainEvent event, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,228 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch;
+
+import br.com.mardoniorodrigues.ordering.domain.model.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Single producer, many consumers. Every handler runs on its own thread,
+ * sees every event in publish order and processes whatever has been
+ * published since its last pass as one batch. The slot array is allocated
+ * once and holds references to the events callers built; the producer only
+ * stores a reference and moves the cursor, so a publish allocates nothing.
+ * Callers from several threads are serialized on the dispatcher monitor,
+ * which keeps the ring itself single-producer.
+ *
+ * The first consumer also nulls out slots once the slowest consumer has
+ * passed them, so handled events do not stay reachable, and only then moves
+ * the released sequence the producer waits on. Being the only thread that
+ * clears, it can never wipe a slot the producer has already reused.
+ *
+ * publish waits for a free slot, so a stuck handler stalls every producer.
+ * Callers that must never block, such as request threads after a commit,
+ * use tryPublish instead: it drops the event and counts it when the ring is
+ * full or the dispatcher is not running.
+ */
+@Slf4j
+public class RingBufferDomainEventDispatcher implements AutoCloseable {
+
+    private static final long INITIAL_SEQUENCE = -1L;
+
+    private final DomainEvent[] slots;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    private final Sequence cursor = new Sequence(INITIAL_SEQUENCE);
+    private final Sequence released = new Sequence(INITIAL_SEQUENCE);
+    private final Sequence[] consumerSequences;
+    private final Thread[] consumerThreads;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private long nextSequence = INITIAL_SEQUENCE;
+    private long cachedReleasedSequence = INITIAL_SEQUENCE;
+
+    private volatile boolean running;
+
+    public RingBufferDomainEventDispatcher(int bufferSize, WaitStrategy waitStrategy, List<DomainEventHandler> handlers) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a power of two");
+        }
+        Objects.requireNonNull(waitStrategy);
+        Objects.requireNonNull(handlers);
+        if (handlers.isEmpty()) {
+            throw new IllegalArgumentException("At least one handler is required");
+        }
+
+        this.slots = new DomainEvent[bufferSize];
+        this.mask = bufferSize - 1;
+        this.waitStrategy = waitStrategy;
+        this.consumerSequences = new Sequence[handlers.size()];
+        this.consumerThreads = new Thread[handlers.size()];
+
+        for (int i = 0; i < handlers.size(); i++) {
+            Sequence sequence = new Sequence(INITIAL_SEQUENCE);
+            DomainEventHandler handler = Objects.requireNonNull(handlers.get(i));
+            boolean releasesSlots = i == 0;
+            this.consumerSequences[i] = sequence;
+            this.consumerThreads[i] = Thread.ofPlatform()
+                .name("domain-event-dispatcher-" + i)
+                .daemon()
+                .unstarted(() -> consume(handler, sequence, releasesSlots));
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (Thread consumerThread : consumerThreads) {
+            consumerThread.start();
+        }
+    }
+
+    public synchronized void publish(DomainEvent event) {
+        Objects.requireNonNull(event);
+        if (!running) {
+            throw new IllegalStateException("Dispatcher is not running");
+        }
+
+        long sequence = ++nextSequence;
+        awaitFreeSlot(sequence);
+        slots[(int) sequence & mask] = event;
+        cursor.set(sequence);
+    }
+
+    public synchronized void publishAll(List<? extends DomainEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            publish(events.get(i));
+        }
+    }
+
+    public synchronized boolean tryPublish(DomainEvent event) {
+        Objects.requireNonNull(event);
+        long sequence = nextSequence + 1;
+        if (!running || !hasFreeSlot(sequence)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+
+        nextSequence = sequence;
+        slots[(int) sequence & mask] = event;
+        cursor.set(sequence);
+        return true;
+    }
+
+    public synchronized int tryPublishAll(List<? extends DomainEvent> events) {
+        int published = 0;
+        for (int i = 0; i < events.size(); i++) {
+            if (tryPublish(events.get(i))) {
+                published++;
+            }
+        }
+        return published;
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public long cursor() {
+        return cursor.get();
+    }
+
+    public int bufferSize() {
+        return slots.length;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            running = false;
+        }
+        for (Thread consumerThread : consumerThreads) {
+            try {
+                consumerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        releaseConsumedSlots();
+    }
+
+    private void awaitFreeSlot(long sequence) {
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint <= cachedReleasedSequence) {
+            return;
+        }
+
+        int attempt = 0;
+        long releasedSequence;
+        while (wrapPoint > (releasedSequence = released.get())) {
+            attempt = waitStrategy.idle(attempt);
+        }
+        cachedReleasedSequence = releasedSequence;
+    }
+
+    private boolean hasFreeSlot(long sequence) {
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint <= cachedReleasedSequence) {
+            return true;
+        }
+        cachedReleasedSequence = released.get();
+        return wrapPoint <= cachedReleasedSequence;
+    }
+
+    private void releaseConsumedSlots() {
+        long from = released.get() + 1;
+        long to = minimumConsumerSequence();
+        if (to < from) {
+            return;
+        }
+        for (long s = from; s <= to; s++) {
+            slots[(int) s & mask] = null;
+        }
+        released.set(to);
+    }
+
+    private long minimumConsumerSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (Sequence consumerSequence : consumerSequences) {
+            minimum = Math.min(minimum, consumerSequence.get());
+        }
+        return minimum;
+    }
+
+    private void consume(DomainEventHandler handler, Sequence sequence, boolean releasesSlots) {
+        long next = sequence.get() + 1;
+        int attempt = 0;
+
+        // keeps going after close until everything published before it has been handled
+        while (running || next <= cursor.get()) {
+            if (releasesSlots) {
+                releaseConsumedSlots();
+            }
+            long available = cursor.get();
+            if (available < next) {
+                attempt = waitStrategy.idle(attempt);
+                continue;
+            }
+            attempt = 0;
+
+            for (long s = next; s <= available; s++) {
+                DomainEvent event = slots[(int) s & mask];
+                try {
+                    handler.onEvent(event, s, s == available);
+                } catch (RuntimeException e) {
+                    log.error("Domain event handler failed on sequence {}", s, e);
+                }
+            }
+            sequence.set(available);
+            next = available + 1;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/*
+ * The producer cursor and every consumer sequence are written by one thread
+ * and polled by others, so each value is padded onto its own cache line.
+ * Padding lives in superclasses because the JVM does not reorder fields
+ * across the class hierarchy.
+ */
+abstract class LeftPadding {
+    protected long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SequenceValue extends LeftPadding {
+    protected long value;
+}
+
+abstract class RightPadding extends SequenceValue {
+    protected long p11, p12, p13, p14, p15, p16, p17;
+}
+
+final class Sequence extends RightPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    void set(long value) {
+        VALUE.setRelease(this, value);
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch;
+
+import java.util.concurrent.locks.LockSupport;
+
+public enum WaitStrategy {
+
+    BUSY_SPIN {
+        @Override
+        int idle(int attempt) {
+            Thread.onSpinWait();
+            return attempt;
+        }
+    },
+
+    YIELDING {
+        @Override
+        int idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+                return attempt + 1;
+            }
+            Thread.yield();
+            return attempt;
+        }
+    },
+
+    SLEEPING {
+        @Override
+        int idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+                return attempt + 1;
+            }
+            if (attempt < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+                return attempt + 1;
+            }
+            LockSupport.parkNanos(SLEEP_NANOS);
+            return attempt;
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = 100_000L;
+
+    abstract int idle(int attempt);
+}
@@ -0,0 +1,16 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.info("{} {} {}", message.eventType(), message.aggregateId(), message.payload());
+        }
+    }
+}
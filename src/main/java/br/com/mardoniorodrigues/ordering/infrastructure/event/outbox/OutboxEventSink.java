@@ -0,0 +1,14 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.outbox;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface OutboxEventSink {
+
+    /*
+     * Receives one relay batch in outbox order. Throwing leaves the whole
+     * batch in the outbox to be retried on the next poll, so sinks must
+     * tolerate seeing the same message more than once.
+     */
+    void publish(List<OutboxMessage> messages);
+}
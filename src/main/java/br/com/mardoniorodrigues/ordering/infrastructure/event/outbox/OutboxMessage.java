@@ -0,0 +1,11 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.outbox;
+
+import java.time.OffsetDateTime;
+
+public record OutboxMessage(long id,
+                            String aggregateType,
+                            String aggregateId,
+                            String eventType,
+                            String payload,
+                            OffsetDateTime occurredAt) {
+}
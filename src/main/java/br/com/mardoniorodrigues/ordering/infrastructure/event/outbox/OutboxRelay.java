@@ -0,0 +1,76 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.outbox;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OutboxEventPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OutboxEventPersistenceEntityRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class OutboxRelay {
+
+    private final OutboxEventPersistenceEntityRepository outboxRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventPersistenceEntityRepository outboxRepository,
+                       OutboxEventSink sink,
+                       PlatformTransactionManager transactionManager,
+                       int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+        this.sink = Objects.requireNonNull(sink);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${ordering.outbox.relay.poll-interval:PT1S}")
+    public int drain() {
+        int total = 0;
+        int relayed;
+        do {
+            relayed = relayBatch();
+            total += relayed;
+        } while (relayed == batchSize);
+        return total;
+    }
+
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEventPersistenceEntity> batch = outboxRepository.findAllByOrderByIdAsc(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<OutboxMessage> messages = new ArrayList<>(batch.size());
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (OutboxEventPersistenceEntity entity : batch) {
+                messages.add(toMessage(entity));
+                ids.add(entity.getId());
+            }
+
+            sink.publish(messages);
+            outboxRepository.deleteAllByIdInBatch(ids);
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private OutboxMessage toMessage(OutboxEventPersistenceEntity entity) {
+        return new OutboxMessage(
+            entity.getId(),
+            entity.getAggregateType(),
+            entity.getAggregateId(),
+            entity.getEventType(),
+            entity.getPayload(),
+            entity.getOccurredAt()
+        );
+    }
+}
@@ -1,9 +1,23 @@
 package br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler;
 
 import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderItem;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Address;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Billing;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Shipping;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.AddressEmbeddable;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.BillingEmbeddable;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderItemPersistenceEntity;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.ShippingEmbeddable;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component
 public class OrderPersistenceEntityAssembler {
 
@@ -24,7 +38,89 @@ public class OrderPersistenceEntityAssembler {
         orderPersistenceEntity.setPaidAt(order.paidAt());
         orderPersistenceEntity.setCanceledAt(order.canceledAt());
         orderPersistenceEntity.setReadyAt(order.readyAt());
+        orderPersistenceEntity.setBilling(toBillingEmbeddable(order.billing()));
+        orderPersistenceEntity.setShipping(toShippingEmbeddable(order.shipping()));
+
+        mergeItems(orderPersistenceEntity, order);
 
         return orderPersistenceEntity;
     }
+
+    private void mergeItems(OrderPersistenceEntity orderPersistenceEntity, Order order) {
+
+        Map<Long, OrderItemPersistenceEntity> currentItems = orderPersistenceEntity.getItems().stream()
+            .collect(Collectors.toMap(OrderItemPersistenceEntity::getId, Function.identity()));
+
+        Set<OrderItemPersistenceEntity> mergedItems = new HashSet<>();
+        for (OrderItem orderItem : order.items()) {
+            OrderItemPersistenceEntity itemPersistenceEntity = currentItems.getOrDefault(
+                orderItem.id().value().toLong(), new OrderItemPersistenceEntity()
+            );
+            mergedItems.add(mergeItem(itemPersistenceEntity, orderItem, orderPersistenceEntity));
+        }
+
+        orderPersistenceEntity.getItems().retainAll(mergedItems);
+        orderPersistenceEntity.getItems().addAll(mergedItems);
+    }
+
+    private OrderItemPersistenceEntity mergeItem(OrderItemPersistenceEntity itemPersistenceEntity,
+                                                 OrderItem orderItem,
+                                                 OrderPersistenceEntity orderPersistenceEntity) {
+
+        itemPersistenceEntity.setId(orderItem.id().value().toLong());
+        itemPersistenceEntity.setOrder(orderPersistenceEntity);
+        itemPersistenceEntity.setProductId(orderItem.productId().value());
+        itemPersistenceEntity.setProductName(orderItem.productName().value());
+        itemPersistenceEntity.setPrice(orderItem.price().value());
+        itemPersistenceEntity.setQuantity(orderItem.quantity().value());
+        itemPersistenceEntity.setTotalAmount(orderItem.totalAmount().value());
+
+        return itemPersistenceEntity;
+    }
+
+    private BillingEmbeddable toBillingEmbeddable(Billing billing) {
+
+        if (billing == null) {
+            return null;
+        }
+
+        return BillingEmbeddable.builder()
+            .firstName(billing.fullName().firstname())
+            .lastName(billing.fullName().lastName())
+            .document(billing.document().value())
+            .phone(billing.phone().value())
+            .email(billing.email().value())
+            .address(toAddressEmbeddable(billing.address()))
+            .build();
+    }
+
+    private ShippingEmbeddable toShippingEmbeddable(Shipping shipping) {
+
+        if (shipping == null) {
+            return null;
+        }
+
+        return ShippingEmbeddable.builder()
+            .cost(shipping.cost().value())
+            .expectedDate(shipping.expectedDate())
+            .recipientFirstName(shipping.recipient().fullName().firstname())
+            .recipientLastName(shipping.recipient().fullName().lastName())
+            .recipientDocument(shipping.recipient().document().value())
+            .recipientPhone(shipping.recipient().phone().value())
+            .address(toAddressEmbeddable(shipping.address()))
+            .build();
+    }
+
+    private AddressEmbeddable toAddressEmbeddable(Address address) {
+
+        return AddressEmbeddable.builder()
+            .street(address.street())
+            .complement(address.complement())
+            .neighborhood(address.neighborhood())
+            .number(address.number())
+            .city(address.city())
+            .state(address.state())
+            .zipCode(address.zipCode().value())
+            .build();
+    }
 }
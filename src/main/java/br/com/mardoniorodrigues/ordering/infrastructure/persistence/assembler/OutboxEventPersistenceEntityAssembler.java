@@ -0,0 +1,50 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler;
+
+import br.com.mardoniorodrigues.ordering.domain.model.event.*;
+import br.com.mardoniorodrigues.ordering.domain.model.utility.IdGenerator;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OutboxEventPersistenceEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class OutboxEventPersistenceEntityAssembler {
+
+    private static final String ORDER_AGGREGATE_TYPE = "Order";
+
+    public OutboxEventPersistenceEntity fromDomain(DomainEvent event) {
+        Objects.requireNonNull(event);
+
+        if (event instanceof OrderEvent orderEvent) {
+            return fromOrderEvent(orderEvent);
+        }
+        throw new IllegalArgumentException("Unsupported domain event " + event.getClass().getName());
+    }
+
+    private OutboxEventPersistenceEntity fromOrderEvent(OrderEvent event) {
+        String eventType = switch (event) {
+            case OrderPlacedEvent e -> "OrderPlaced";
+            case OrderPaidEvent e -> "OrderPaid";
+            case OrderReadyEvent e -> "OrderReady";
+            case OrderCanceledEvent e -> "OrderCanceled";
+        };
+
+        String orderId = event.orderId().toString();
+
+        return OutboxEventPersistenceEntity.builder()
+            .id(IdGenerator.generateTSID().toLong())
+            .aggregateType(ORDER_AGGREGATE_TYPE)
+            .aggregateId(orderId)
+            .eventType(eventType)
+            .payload(orderPayload(orderId, event))
+            .occurredAt(event.occurredAt())
+            .build();
+    }
+
+    private String orderPayload(String orderId, OrderEvent event) {
+        return "{\"orderId\":\"" + orderId
+            + "\",\"customerId\":\"" + event.customerId().value()
+            + "\",\"occurredAt\":\"" + event.occurredAt()
+            + "\"}";
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.config;
+
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.CachingOrdersPersistenceProvider;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.GroupCommitOrdersPersistenceProvider;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+public class OrdersPersistenceConfig {
+
+    @Bean(defaultCandidate = false, destroyMethod = "close")
+    @ConditionalOnProperty(name = "ordering.persistence.group-commit.enabled", havingValue = "true")
+    public GroupCommitOrdersPersistenceProvider groupCommitOrders(
+        OrdersPersistenceProvider ordersPersistenceProvider,
+        PlatformTransactionManager transactionManager,
+        @Value("${ordering.persistence.group-commit.max-batch-size:32}") int maxBatchSize,
+        @Value("${ordering.persistence.group-commit.max-wait:PT2MS}") Duration maxWait
+    ) {
+        return new GroupCommitOrdersPersistenceProvider(
+            ordersPersistenceProvider, transactionManager, maxBatchSize, maxWait
+        );
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${ordering.persistence.cache.enabled:false} or ${ordering.persistence.group-commit.enabled:false}")
+    public Orders orders(
+        OrdersPersistenceProvider ordersPersistenceProvider,
+        @Qualifier("groupCommitOrders") ObjectProvider<GroupCommitOrdersPersistenceProvider> groupCommitOrders,
+        OrderPersistenceEntityAssembler assembler,
+        OrderPersistenceEntityDisassembler disassembler,
+        @Value("${ordering.persistence.cache.enabled:false}") boolean cacheEnabled,
+        @Value("${ordering.persistence.cache.maximum-size:10000}") long maximumSize,
+        @Value("${ordering.persistence.cache.ttl:PT1M}") Duration ttl,
+        @Value("${ordering.persistence.cache.terminal-ttl:PT1H}") Duration terminalTtl
+    ) {
+        Orders orders = groupCommitOrders.getIfAvailable(() -> ordersPersistenceProvider);
+        if (!cacheEnabled) {
+            return orders;
+        }
+        return new CachingOrdersPersistenceProvider(
+            orders, assembler, disassembler, maximumSize, ttl, terminalTtl
+        );
+    }
+}
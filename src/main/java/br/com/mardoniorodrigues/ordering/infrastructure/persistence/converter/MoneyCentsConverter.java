@@ -0,0 +1,29 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@Converter
+public class MoneyCentsConverter implements AttributeConverter<BigDecimal, Long> {
+
+    private static final int SCALE = 2;
+
+    @Override
+    public Long convertToDatabaseColumn(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    @Override
+    public BigDecimal convertToEntityAttribute(Long cents) {
+        if (cents == null) {
+            return null;
+        }
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+}
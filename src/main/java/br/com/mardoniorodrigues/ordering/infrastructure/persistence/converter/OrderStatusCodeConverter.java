@@ -0,0 +1,41 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+ * Codes are part of the stored data: never reuse or renumber them.
+ */
+@Converter
+public class OrderStatusCodeConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String status) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case "DRAFT" -> 1;
+            case "PLACED" -> 2;
+            case "PAID" -> 3;
+            case "READY" -> 4;
+            case "CANCELED" -> 5;
+            default -> throw new IllegalArgumentException("Unknown order status: " + status);
+        };
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        if (code == null) {
+            return null;
+        }
+        return switch (code) {
+            case 1 -> "DRAFT";
+            case 2 -> "PLACED";
+            case 3 -> "PAID";
+            case 4 -> "READY";
+            case 5 -> "CANCELED";
+            default -> throw new IllegalArgumentException("Unknown order status code: " + code);
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+ * Codes are part of the stored data: never reuse or renumber them.
+ */
+@Converter
+public class PaymentMethodCodeConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String paymentMethod) {
+        if (paymentMethod == null) {
+            return null;
+        }
+        return switch (paymentMethod) {
+            case "CREDIT_CARD" -> 1;
+            case "GATEWAY_BALANCE" -> 2;
+            default -> throw new IllegalArgumentException("Unknown payment method: " + paymentMethod);
+        };
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        if (code == null) {
+            return null;
+        }
+        return switch (code) {
+            case 1 -> "CREDIT_CARD";
+            case 2 -> "GATEWAY_BALANCE";
+            default -> throw new IllegalArgumentException("Unknown payment method code: " + code);
+        };
+    }
+}
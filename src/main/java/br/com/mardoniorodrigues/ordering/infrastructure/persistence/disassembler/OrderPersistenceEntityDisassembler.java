@@ -1,34 +1,145 @@
 package br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler;
 
 import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderItem;
 import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
 import br.com.mardoniorodrigues.ordering.domain.model.entity.PaymentMethod;
-import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Money;
-import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Quantity;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.*;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderItemId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ProductId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.AddressEmbeddable;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.BillingEmbeddable;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderItemPersistenceEntity;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.ShippingEmbeddable;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Component
 public class OrderPersistenceEntityDisassembler {
 
+    private static final Map<String, OrderStatus> ORDER_STATUSES = lookupOf(OrderStatus.values());
+    private static final Map<String, PaymentMethod> PAYMENT_METHODS = lookupOf(PaymentMethod.values());
+
     public Order toDomainEntity(OrderPersistenceEntity persistenceEntity) {
 
-        return Order.existing()
-            .id(new OrderId(persistenceEntity.getId()))
-            .customerId(new CustomerId(persistenceEntity.getCustomerId()))
-            .totalAmount(new Money(persistenceEntity.getTotalAmount()))
-            .totalItems(new Quantity(persistenceEntity.getTotalItems()))
-            .status(OrderStatus.valueOf(persistenceEntity.getStatus()))
-            .paymentMethod(PaymentMethod.valueOf(persistenceEntity.getPaymentMethod()))
-            .placedAt(persistenceEntity.getPlacedAt())
-            .paidAt(persistenceEntity.getPaidAt())
-            .canceledAt(persistenceEntity.getCanceledAt())
-            .readyAt(persistenceEntity.getReadyAt())
-            .items(new HashSet<>())
-            .build();
+        OrderId orderId = new OrderId(persistenceEntity.getId());
+
+        return new Order(
+            orderId,
+            persistenceEntity.getVersion(),
+            new CustomerId(persistenceEntity.getCustomerId()),
+            new Money(persistenceEntity.getTotalAmount()),
+            Quantity.of(persistenceEntity.getTotalItems()),
+            persistenceEntity.getPlacedAt(),
+            persistenceEntity.getPaidAt(),
+            persistenceEntity.getCanceledAt(),
+            persistenceEntity.getReadyAt(),
+            toBilling(persistenceEntity.getBilling()),
+            toShipping(persistenceEntity.getShipping()),
+            toOrderStatus(persistenceEntity.getStatus()),
+            lookup(PAYMENT_METHODS, PaymentMethod.class, persistenceEntity.getPaymentMethod()),
+            toOrderItems(orderId, persistenceEntity.getItems())
+        );
+    }
+
+    public OrderStatus toOrderStatus(String status) {
+        return lookup(ORDER_STATUSES, OrderStatus.class, status);
+    }
+
+    private Set<OrderItem> toOrderItems(OrderId orderId, Set<OrderItemPersistenceEntity> itemPersistenceEntities) {
+
+        Set<OrderItem> items = HashSet.newHashSet(itemPersistenceEntities.size());
+        for (OrderItemPersistenceEntity itemPersistenceEntity : itemPersistenceEntities) {
+            items.add(toOrderItem(orderId, itemPersistenceEntity));
+        }
+        return items;
+    }
+
+    private OrderItem toOrderItem(OrderId orderId, OrderItemPersistenceEntity itemPersistenceEntity) {
+
+        return new OrderItem(
+            new OrderItemId(itemPersistenceEntity.getId()),
+            orderId,
+            new ProductId(itemPersistenceEntity.getProductId()),
+            new ProductName(itemPersistenceEntity.getProductName()),
+            new Money(itemPersistenceEntity.getPrice()),
+            Quantity.of(itemPersistenceEntity.getQuantity()),
+            new Money(itemPersistenceEntity.getTotalAmount())
+        );
+    }
+
+    private Billing toBilling(BillingEmbeddable billing) {
+
+        if (billing == null) {
+            return null;
+        }
+
+        return new Billing(
+            new FullName(billing.getFirstName(), billing.getLastName()),
+            new Document(billing.getDocument()),
+            new Phone(billing.getPhone()),
+            new Email(billing.getEmail()),
+            toAddress(billing.getAddress())
+        );
+    }
+
+    private Shipping toShipping(ShippingEmbeddable shipping) {
+
+        if (shipping == null) {
+            return null;
+        }
+
+        return new Shipping(
+            new Money(shipping.getCost()),
+            shipping.getExpectedDate(),
+            new Recipient(
+                new FullName(shipping.getRecipientFirstName(), shipping.getRecipientLastName()),
+                new Document(shipping.getRecipientDocument()),
+                new Phone(shipping.getRecipientPhone())
+            ),
+            toAddress(shipping.getAddress())
+        );
+    }
+
+    private Address toAddress(AddressEmbeddable address) {
+
+        return new Address(
+            address.getStreet(),
+            address.getComplement(),
+            address.getNeighborhood(),
+            address.getNumber(),
+            address.getCity(),
+            address.getState(),
+            new ZipCode(address.getZipCode())
+        );
+    }
+
+    private static <E extends Enum<E>> Map<String, E> lookupOf(E[] values) {
+        Map<String, E> lookup = HashMap.newHashMap(values.length);
+        for (E value : values) {
+            lookup.put(value.name(), value);
+        }
+        return Map.copyOf(lookup);
+    }
+
+    /*
+     * Same outcome as Enum.valueOf: NullPointerException for a null name and
+     * IllegalArgumentException for an unknown one.
+     */
+    private static <E extends Enum<E>> E lookup(Map<String, E> lookup, Class<E> type, String name) {
+        Objects.requireNonNull(name, "Name is null");
+        E value = lookup.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("No enum constant " + type.getCanonicalName() + "." + name);
+        }
+        return value;
     }
 }
@@ -0,0 +1,22 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class AddressEmbeddable {
+
+    private String street;
+    private String complement;
+    private String neighborhood;
+    private String number;
+    private String city;
+    private String state;
+    private String zipCode;
+}
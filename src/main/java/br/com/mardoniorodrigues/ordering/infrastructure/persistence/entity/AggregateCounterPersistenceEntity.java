@@ -0,0 +1,24 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "aggregate_counter")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AggregateCounterPersistenceEntity {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String name;
+
+    private Long total;
+}
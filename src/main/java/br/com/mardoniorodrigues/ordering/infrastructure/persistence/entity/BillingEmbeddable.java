@@ -0,0 +1,24 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import lombok.*;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class BillingEmbeddable {
+
+    private String firstName;
+    private String lastName;
+    private String document;
+    private String phone;
+    private String email;
+
+    @Embedded
+    private AddressEmbeddable address;
+}
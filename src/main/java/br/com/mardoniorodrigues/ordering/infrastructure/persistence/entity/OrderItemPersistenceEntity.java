@@ -0,0 +1,43 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.MoneyCentsConverter;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.UuidBinaryConverter;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(of = "id")
+@Table(name = "order_item")
+@DynamicUpdate
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OrderItemPersistenceEntity {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id")
+    private OrderPersistenceEntity order;
+
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(length = 16)
+    private UUID productId;
+    private String productName;
+
+    @Convert(converter = MoneyCentsConverter.class)
+    private BigDecimal price;
+    private Integer quantity;
+
+    @Convert(converter = MoneyCentsConverter.class)
+    private BigDecimal totalAmount;
+}
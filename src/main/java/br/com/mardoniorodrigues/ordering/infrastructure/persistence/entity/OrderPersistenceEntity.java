@@ -1,12 +1,18 @@
 package br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.MoneyCentsConverter;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.OrderStatusCodeConverter;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.PaymentMethodCodeConverter;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.UuidBinaryConverter;
+import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -16,22 +22,76 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @ToString(of = "id")
-@Table(name = "\"order\"")
+@Table(name = "\"order\"", indexes = {
+    @Index(name = "idx_order_customer_id_id", columnList = "customer_id, id")
+})
+@DynamicUpdate
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class OrderPersistenceEntity {
 
     @Id
     @EqualsAndHashCode.Include
     private Long id;
+
+    @Version
+    private Long version;
+
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(length = 16)
     private UUID customerId;
 
+    @Convert(converter = MoneyCentsConverter.class)
     private BigDecimal totalAmount;
     private Integer totalItems;
+
+    @Convert(converter = OrderStatusCodeConverter.class)
     private String status;
+
+    @Convert(converter = PaymentMethodCodeConverter.class)
     private String paymentMethod;
 
     private OffsetDateTime placedAt;
     private OffsetDateTime paidAt;
     private OffsetDateTime canceledAt;
     private OffsetDateTime readyAt;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "firstName", column = @Column(name = "billing_first_name")),
+        @AttributeOverride(name = "lastName", column = @Column(name = "billing_last_name")),
+        @AttributeOverride(name = "document", column = @Column(name = "billing_document")),
+        @AttributeOverride(name = "phone", column = @Column(name = "billing_phone")),
+        @AttributeOverride(name = "email", column = @Column(name = "billing_email")),
+        @AttributeOverride(name = "address.street", column = @Column(name = "billing_street")),
+        @AttributeOverride(name = "address.complement", column = @Column(name = "billing_complement")),
+        @AttributeOverride(name = "address.neighborhood", column = @Column(name = "billing_neighborhood")),
+        @AttributeOverride(name = "address.number", column = @Column(name = "billing_number")),
+        @AttributeOverride(name = "address.city", column = @Column(name = "billing_city")),
+        @AttributeOverride(name = "address.state", column = @Column(name = "billing_state")),
+        @AttributeOverride(name = "address.zipCode", column = @Column(name = "billing_zip_code"))
+    })
+    private BillingEmbeddable billing;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "cost", column = @Column(name = "shipping_cost")),
+        @AttributeOverride(name = "expectedDate", column = @Column(name = "shipping_expected_date")),
+        @AttributeOverride(name = "recipientFirstName", column = @Column(name = "shipping_recipient_first_name")),
+        @AttributeOverride(name = "recipientLastName", column = @Column(name = "shipping_recipient_last_name")),
+        @AttributeOverride(name = "recipientDocument", column = @Column(name = "shipping_recipient_document")),
+        @AttributeOverride(name = "recipientPhone", column = @Column(name = "shipping_recipient_phone")),
+        @AttributeOverride(name = "address.street", column = @Column(name = "shipping_street")),
+        @AttributeOverride(name = "address.complement", column = @Column(name = "shipping_complement")),
+        @AttributeOverride(name = "address.neighborhood", column = @Column(name = "shipping_neighborhood")),
+        @AttributeOverride(name = "address.number", column = @Column(name = "shipping_number")),
+        @AttributeOverride(name = "address.city", column = @Column(name = "shipping_city")),
+        @AttributeOverride(name = "address.state", column = @Column(name = "shipping_state")),
+        @AttributeOverride(name = "address.zipCode", column = @Column(name = "shipping_zip_code"))
+    })
+    private ShippingEmbeddable shipping;
+
+    @BatchSize(size = 50)
+    @Builder.Default
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<OrderItemPersistenceEntity> items = new HashSet<>();
 }
@@ -0,0 +1,37 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(of = {"id", "eventType", "aggregateId"})
+@Table(name = "outbox_event")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OutboxEventPersistenceEntity {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(length = 64, nullable = false)
+    private String aggregateType;
+
+    @Column(length = 64, nullable = false)
+    private String aggregateId;
+
+    @Column(length = 64, nullable = false)
+    private String eventType;
+
+    @Column(length = 1024, nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private OffsetDateTime occurredAt;
+}
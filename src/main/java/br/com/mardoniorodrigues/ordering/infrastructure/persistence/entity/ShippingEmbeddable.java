@@ -0,0 +1,32 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter.MoneyCentsConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class ShippingEmbeddable {
+
+    @Convert(converter = MoneyCentsConverter.class)
+    private BigDecimal cost;
+    private LocalDate expectedDate;
+
+    private String recipientFirstName;
+    private String recipientLastName;
+    private String recipientDocument;
+    private String recipientPhone;
+
+    @Embedded
+    private AddressEmbeddable address;
+}
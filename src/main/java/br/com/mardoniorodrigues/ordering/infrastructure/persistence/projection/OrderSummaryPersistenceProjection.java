@@ -0,0 +1,15 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record OrderSummaryPersistenceProjection(
+    Long id,
+    UUID customerId,
+    String status,
+    BigDecimal totalAmount,
+    Integer totalItems,
+    OffsetDateTime placedAt
+) {
+}
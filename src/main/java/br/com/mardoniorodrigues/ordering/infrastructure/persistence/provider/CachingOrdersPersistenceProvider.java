@@ -0,0 +1,149 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.CursorPage;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+public class CachingOrdersPersistenceProvider implements Orders {
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of(OrderStatus.READY.name(), OrderStatus.CANCELED.name());
+
+    private final Orders delegate;
+    private final OrderPersistenceEntityAssembler assembler;
+    private final OrderPersistenceEntityDisassembler disassembler;
+    private final Cache<OrderId, OrderPersistenceEntity> cache;
+
+    public CachingOrdersPersistenceProvider(Orders delegate,
+                                            OrderPersistenceEntityAssembler assembler,
+                                            OrderPersistenceEntityDisassembler disassembler,
+                                            long maximumSize,
+                                            Duration ttl,
+                                            Duration terminalTtl) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.assembler = Objects.requireNonNull(assembler);
+        this.disassembler = Objects.requireNonNull(disassembler);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new StatusAwareExpiry(ttl, terminalTtl))
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Optional<Order> ofId(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+
+        OrderPersistenceEntity snapshot = cache.get(orderId,
+            id -> delegate.ofId(id).map(this::snapshotOf).orElse(null));
+
+        return Optional.ofNullable(snapshot).map(disassembler::toDomainEntity);
+    }
+
+    @Override
+    public boolean exists(OrderId orderId) {
+        return cache.getIfPresent(orderId) != null || delegate.exists(orderId);
+    }
+
+    @Override
+    public void add(Order aggretateRoot) {
+        delegate.add(aggretateRoot);
+        invalidate(List.of(aggretateRoot.id()));
+    }
+
+    @Override
+    public void addAll(Collection<Order> aggregateRoots) {
+        delegate.addAll(aggregateRoots);
+        invalidate(aggregateRoots.stream().map(Order::id).toList());
+    }
+
+    @Override
+    public CursorPage<Order> ofCustomer(CustomerId customerId, String cursor, int size) {
+        return delegate.ofCustomer(customerId, cursor, size);
+    }
+
+    @Override
+    public CursorPage<Order> createdBetween(OffsetDateTime from, OffsetDateTime to, String cursor, int size) {
+        return delegate.createdBetween(from, to, cursor, size);
+    }
+
+    @Override
+    public Optional<OrderStatus> statusOf(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+
+        OrderPersistenceEntity snapshot = cache.getIfPresent(orderId);
+        if (snapshot != null) {
+            return Optional.of(disassembler.toOrderStatus(snapshot.getStatus()));
+        }
+        return delegate.statusOf(orderId);
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private OrderPersistenceEntity snapshotOf(Order order) {
+        OrderPersistenceEntity snapshot = assembler.fromDomain(order);
+        snapshot.setVersion(order.version());
+        return snapshot;
+    }
+
+    private void invalidate(Collection<OrderId> orderIds) {
+        cache.invalidateAll(orderIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(orderIds);
+                }
+            });
+        }
+    }
+
+    private record StatusAwareExpiry(Duration ttl, Duration terminalTtl) implements Expiry<OrderId, OrderPersistenceEntity> {
+
+        @Override
+        public long expireAfterCreate(OrderId key, OrderPersistenceEntity value, long currentTime) {
+            return TERMINAL_STATUSES.contains(value.getStatus()) ? terminalTtl.toNanos() : ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(OrderId key, OrderPersistenceEntity value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(OrderId key, OrderPersistenceEntity value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
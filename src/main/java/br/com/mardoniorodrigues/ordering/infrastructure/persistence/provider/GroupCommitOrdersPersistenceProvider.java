@@ -0,0 +1,276 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.CursorPage;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Queues add calls made outside a transaction and writes them together, so
+ * concurrent callers share one commit instead of paying for one each. A
+ * batch closes when it reaches maxBatchSize or when its oldest call has
+ * waited maxWait. Every caller blocks until its own order is committed.
+ * If the shared transaction fails, each order is retried alone so only the
+ * orders that really fail report an error. An exception raised after the
+ * transaction manager reported the commit, such as from an after-commit
+ * callback, does not undo it: those orders are reported as saved and the
+ * failure is only logged, since a retry would insert them twice.
+ */
+@Slf4j
+public class GroupCommitOrdersPersistenceProvider implements Orders, AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100L;
+
+    private final Orders delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+
+    private final BlockingQueue<PendingAdd> queue = new LinkedBlockingQueue<>();
+    private final Thread committer;
+
+    private volatile boolean running = true;
+
+    public GroupCommitOrdersPersistenceProvider(Orders delegate,
+                                                PlatformTransactionManager transactionManager,
+                                                int maxBatchSize,
+                                                Duration maxWait) {
+        if (maxBatchSize < 1 || maxWait.isNegative()) {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.committer = Thread.ofPlatform()
+            .name("orders-group-commit")
+            .daemon()
+            .start(this::commitLoop);
+    }
+
+    @Override
+    public Optional<Order> ofId(OrderId orderId) {
+        return delegate.ofId(orderId);
+    }
+
+    @Override
+    public boolean exists(OrderId orderId) {
+        return delegate.exists(orderId);
+    }
+
+    @Override
+    public void add(Order aggregateRoot) {
+        Objects.requireNonNull(aggregateRoot);
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            delegate.add(aggregateRoot);
+            return;
+        }
+
+        PendingAdd pending = new PendingAdd(aggregateRoot);
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException("Group commit is closed");
+        }
+        awaitResult(pending.result);
+    }
+
+    @Override
+    public void addAll(Collection<Order> aggregateRoots) {
+        delegate.addAll(aggregateRoots);
+    }
+
+    @Override
+    public CursorPage<Order> ofCustomer(CustomerId customerId, String cursor, int size) {
+        return delegate.ofCustomer(customerId, cursor, size);
+    }
+
+    @Override
+    public CursorPage<Order> createdBetween(OffsetDateTime from, OffsetDateTime to, String cursor, int size) {
+        return delegate.createdBetween(from, to, cursor, size);
+    }
+
+    @Override
+    public Optional<OrderStatus> statusOf(OrderId orderId) {
+        return delegate.statusOf(orderId);
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commitLoop() {
+        List<PendingAdd> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.fail(new IllegalStateException("Group commit was interrupted")));
+                return;
+            }
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<PendingAdd> batch) throws InterruptedException {
+        PendingAdd first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = first.enqueuedAt + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingAdd next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingAdd> batch) {
+        CommitOutcome outcome = new CommitOutcome();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                outcome.register();
+                for (PendingAdd pending : batch) {
+                    delegate.add(pending.order);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            if (outcome.committed) {
+                log.error("Group commit of {} orders failed after it was committed", batch.size(), e);
+                batch.forEach(PendingAdd::complete);
+                return;
+            }
+            if (batch.size() == 1) {
+                batch.getFirst().restore();
+                batch.getFirst().fail(e);
+                return;
+            }
+            batch.forEach(PendingAdd::restore);
+            batch.forEach(this::commitAlone);
+            return;
+        }
+        batch.forEach(PendingAdd::complete);
+    }
+
+    private void commitAlone(PendingAdd pending) {
+        CommitOutcome outcome = new CommitOutcome();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                outcome.register();
+                delegate.add(pending.order);
+            });
+        } catch (RuntimeException | Error e) {
+            if (outcome.committed) {
+                log.error("Commit of order {} failed after it was committed", pending.order.id(), e);
+                pending.complete();
+                return;
+            }
+            pending.restore();
+            pending.fail(e);
+            return;
+        }
+        pending.complete();
+    }
+
+    private void awaitResult(CompletableFuture<Void> result) {
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * afterCompletion runs even when an afterCommit callback throws, so it is
+     * the only reliable signal that the commit itself went through.
+     */
+    private static final class CommitOutcome implements TransactionSynchronization {
+
+        private boolean committed;
+
+        private void register() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(this);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            committed = status == STATUS_COMMITTED;
+        }
+    }
+
+    private static final class PendingAdd {
+
+        private final Order order;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        // a rolled back batch has already bumped the version and drained the events
+        private final Order.PersistenceState state;
+
+        private PendingAdd(Order order) {
+            this.order = order;
+            this.state = order.persistenceState();
+        }
+
+        private void restore() {
+            order.restore(state);
+        }
+
+        private void complete() {
+            result.complete(null);
+        }
+
+        private void fail(Throwable cause) {
+            result.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.domain.model.query.OrderSummaries;
+import br.com.mardoniorodrigues.ordering.domain.model.query.OrderSummary;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.CursorPage;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Money;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Quantity;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.projection.OrderSummaryPersistenceProjection;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OrderPersistenceEntityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class OrderSummariesPersistenceProvider implements OrderSummaries {
+
+    private final OrderPersistenceEntityRepository persistenceRepository;
+    private final OrderPersistenceEntityDisassembler disassembler;
+
+    @Override
+    public Optional<OrderSummary> ofId(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+        return persistenceRepository.findSummaryById(orderId.value().toLong()).map(this::toOrderSummary);
+    }
+
+    @Override
+    public CursorPage<OrderSummary> ofCustomer(CustomerId customerId, String cursor, int size) {
+        Objects.requireNonNull(customerId);
+        if (size < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<OrderSummaryPersistenceProjection> projections = cursor == null
+            ? persistenceRepository.findSummariesByCustomerId(customerId.value(), limit)
+            : persistenceRepository.findSummariesByCustomerIdAndIdLessThan(
+                customerId.value(), new OrderId(cursor).value().toLong(), limit);
+
+        return CursorPage.of(projections, size, p -> new OrderId(p.id()).toString())
+            .map(this::toOrderSummary);
+    }
+
+    private OrderSummary toOrderSummary(OrderSummaryPersistenceProjection projection) {
+        return new OrderSummary(
+            new OrderId(projection.id()),
+            new CustomerId(projection.customerId()),
+            disassembler.toOrderStatus(projection.status()),
+            new Money(projection.totalAmount()),
+            Quantity.of(projection.totalItems()),
+            projection.placedAt()
+        );
+    }
+}
@@ -1,46 +1,283 @@
 package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
 
 import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.event.DomainEvent;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.CursorPage;
 import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.utility.IdGenerator;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch.RingBufferDomainEventDispatcher;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OutboxEventPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.AggregateCounterPersistenceEntityRepository;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OrderPersistenceEntityRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrdersPersistenceProvider implements Orders {
 
+    private static final String COUNTER_NAME = "orders";
+
     private final OrderPersistenceEntityRepository persistenceRepository;
+    private final AggregateCounterPersistenceEntityRepository counterRepository;
     private final OrderPersistenceEntityAssembler assembler;
     private final OrderPersistenceEntityDisassembler disassembler;
+    private final OutboxEventPersistenceEntityAssembler outboxAssembler;
+    private final ObjectProvider<RingBufferDomainEventDispatcher> eventDispatcher;
+    private final EntityManager entityManager;
+
+    private final SingleFlight<Long, Optional<OrderPersistenceEntity>> inFlightLoads = new SingleFlight<>();
+
+    @Value("${ordering.persistence.batch-size:50}")
+    private int batchSize;
 
     @Override
     public Optional<Order> ofId(OrderId orderId) {
 
-        Optional<OrderPersistenceEntity> possibleEntity = persistenceRepository.findById(orderId.value().toLong());
+        long id = orderId.value().toLong();
+        Optional<OrderPersistenceEntity> possibleEntity = TransactionSynchronizationManager.isActualTransactionActive()
+            ? persistenceRepository.findWithItemsById(id)
+            : inFlightLoads.load(id, () -> persistenceRepository.findWithItemsById(id).map(this::detach));
+
         return possibleEntity.map(disassembler::toDomainEntity);
     }
 
+    @Override
+    public Optional<OrderStatus> statusOf(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+        return persistenceRepository.findStatusById(orderId.value().toLong())
+            .map(disassembler::toOrderStatus);
+    }
+
     @Override
     public boolean exists(OrderId orderId) {
-        return false;
+        return persistenceRepository.existsById(orderId.value().toLong());
     }
 
     @Override
+    @Transactional
     public void add(Order aggretateRoot) {
 
-        OrderPersistenceEntity persistenceEntity = assembler.fromDomain(aggretateRoot);
-        persistenceRepository.saveAndFlush(persistenceEntity);
+        if (aggretateRoot.version() == null) {
+            insert(aggretateRoot);
+            return;
+        }
+
+        long orderId = aggretateRoot.id().value().toLong();
+        persistenceRepository.findWithItemsById(orderId).ifPresentOrElse(
+            persistenceEntity -> update(aggretateRoot, persistenceEntity),
+            () -> insert(aggretateRoot)
+        );
+    }
+
+    @Override
+    @Transactional
+    public void addAll(Collection<Order> aggregateRoots) {
+        Objects.requireNonNull(aggregateRoots);
+
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        List<Object> pending = new ArrayList<>(batchSize);
+        for (Order aggregateRoot : aggregateRoots) {
+            OrderPersistenceEntity persistenceEntity = assembler.fromDomain(aggregateRoot);
+            entityManager.persist(persistenceEntity);
+            updateVersion(aggregateRoot, persistenceEntity);
+            pending.add(persistenceEntity);
+            pending.addAll(publishEvents(aggregateRoot));
+
+            if (pending.size() >= batchSize) {
+                flushBatch(pending);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            flushBatch(pending);
+        }
+
+        incrementCount(aggregateRoots.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Order> ofCustomer(CustomerId customerId, String cursor, int size) {
+        Objects.requireNonNull(customerId);
+        if (size < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<OrderPersistenceEntity> persistenceEntities = cursor == null
+            ? persistenceRepository.findByCustomerIdOrderByIdDesc(customerId.value(), limit)
+            : persistenceRepository.findByCustomerIdAndIdLessThanOrderByIdDesc(
+                customerId.value(), new OrderId(cursor).value().toLong(), limit);
+
+        return CursorPage.of(persistenceEntities, size, e -> new OrderId(e.getId()).toString())
+            .map(disassembler::toDomainEntity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Order> createdBetween(OffsetDateTime from, OffsetDateTime to, String cursor, int size) {
+        /*
+         * The window is matched on the id's time prefix. With TSID blocks an
+         * id may trail its creation by up to tsid.block.max-age-ms, so orders
+         * created that close after a boundary can fall in the earlier window.
+         */
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (!from.isBefore(to) || size < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        long fromId = IdGenerator.lowestTSIDAt(from.toInstant()).toLong();
+        long toId = IdGenerator.lowestTSIDAt(to.toInstant()).toLong();
+
+        Limit limit = Limit.of(size + 1);
+        List<OrderPersistenceEntity> persistenceEntities = cursor == null
+            ? persistenceRepository.findByIdGreaterThanEqualAndIdLessThanOrderById(fromId, toId, limit)
+            : persistenceRepository.findByIdGreaterThanAndIdLessThanOrderById(
+                new OrderId(cursor).value().toLong(), toId, limit);
+
+        return CursorPage.of(persistenceEntities, size, e -> new OrderId(e.getId()).toString())
+            .map(disassembler::toDomainEntity);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public int count() {
-        return 0;
+        long total = counterRepository.totalOf(COUNTER_NAME).orElseGet(persistenceRepository::count);
+        return Math.toIntExact(total);
+    }
+
+    private void insert(Order aggregateRoot) {
+        OrderPersistenceEntity persistenceEntity = assembler.fromDomain(aggregateRoot);
+        persistenceRepository.saveAndFlush(persistenceEntity);
+        updateVersion(aggregateRoot, persistenceEntity);
+        publishEvents(aggregateRoot);
+        incrementCount(1);
+    }
+
+    private void update(Order aggregateRoot, OrderPersistenceEntity persistenceEntity) {
+        if (!Objects.equals(persistenceEntity.getVersion(), aggregateRoot.version())) {
+            throw new OptimisticLockingFailureException(
+                String.format("Order %s was changed by another transaction", aggregateRoot.id())
+            );
+        }
+
+        assembler.merge(persistenceEntity, aggregateRoot);
+        persistenceRepository.saveAndFlush(persistenceEntity);
+        updateVersion(aggregateRoot, persistenceEntity);
+        publishEvents(aggregateRoot);
+    }
+
+    private List<OutboxEventPersistenceEntity> publishEvents(Order aggregateRoot) {
+        List<DomainEvent> events = aggregateRoot.domainEvents();
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<OutboxEventPersistenceEntity> outboxEntities = appendToOutbox(events);
+        dispatchAfterCommit(List.copyOf(events));
+        aggregateRoot.clearDomainEvents();
+        return outboxEntities;
+    }
+
+    private List<OutboxEventPersistenceEntity> appendToOutbox(List<DomainEvent> events) {
+        // flushed with the rest of the unit of work, so the outbox rows go out as one JDBC batch
+        List<OutboxEventPersistenceEntity> outboxEntities = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            OutboxEventPersistenceEntity outboxEntity = outboxAssembler.fromDomain(event);
+            entityManager.persist(outboxEntity);
+            outboxEntities.add(outboxEntity);
+        }
+        return outboxEntities;
+    }
+
+    private void dispatchAfterCommit(List<DomainEvent> events) {
+        RingBufferDomainEventDispatcher dispatcher = eventDispatcher.getIfAvailable();
+        if (dispatcher == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tryDispatch(dispatcher, events);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tryDispatch(dispatcher, events);
+            }
+        });
+    }
+
+    /*
+     * Runs after the order is committed, so it must neither block the caller
+     * nor fail it: events that do not fit are dropped and counted by the
+     * dispatcher, and the outbox stays the durable copy.
+     */
+    private static void tryDispatch(RingBufferDomainEventDispatcher dispatcher, List<DomainEvent> events) {
+        try {
+            int published = dispatcher.tryPublishAll(events);
+            if (published < events.size()) {
+                log.warn("Dropped {} of {} domain events, dispatcher is full or stopped",
+                    events.size() - published, events.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to dispatch {} domain events after commit", events.size(), e);
+        }
+    }
+
+    private void updateVersion(Order aggregateRoot, OrderPersistenceEntity persistenceEntity) {
+        aggregateRoot.markAsPersisted(persistenceEntity.getVersion());
+    }
+
+    // data.sql seeds the counter row once, when it is missing; count() falls back to COUNT(*) without it
+    private void incrementCount(long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        if (counterRepository.increment(COUNTER_NAME, delta) != 1) {
+            throw new IllegalStateException("Aggregate counter '" + COUNTER_NAME + "' is missing");
+        }
+    }
+
+    private OrderPersistenceEntity detach(OrderPersistenceEntity persistenceEntity) {
+        entityManager.detach(persistenceEntity);
+        return persistenceEntity;
+    }
+
+    // detaches only what this batch persisted, the caller's transaction may hold other managed entities
+    private void flushBatch(List<Object> pending) {
+        entityManager.flush();
+        pending.forEach(entityManager::detach);
+        pending.clear();
     }
 }
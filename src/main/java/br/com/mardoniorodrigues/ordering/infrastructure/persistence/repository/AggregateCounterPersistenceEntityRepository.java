@@ -0,0 +1,18 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.AggregateCounterPersistenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface AggregateCounterPersistenceEntityRepository extends JpaRepository<AggregateCounterPersistenceEntity, String> {
+
+    @Query("select c.total from AggregateCounterPersistenceEntity c where c.name = :name")
+    Optional<Long> totalOf(String name);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AggregateCounterPersistenceEntity c set c.total = c.total + :delta where c.name = :name")
+    int increment(String name, long delta);
+}
@@ -1,7 +1,55 @@
 package br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository;
 
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.projection.OrderSummaryPersistenceProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface OrderPersistenceEntityRepository extends JpaRepository<OrderPersistenceEntity, Long> {
+
+    @EntityGraph(attributePaths = "items")
+    Optional<OrderPersistenceEntity> findWithItemsById(Long id);
+
+    @Query("select o.status from OrderPersistenceEntity o where o.id = :id")
+    Optional<String> findStatusById(Long id);
+
+    List<OrderPersistenceEntity> findByCustomerIdOrderByIdDesc(UUID customerId, Limit limit);
+
+    List<OrderPersistenceEntity> findByCustomerIdAndIdLessThanOrderByIdDesc(UUID customerId, Long id, Limit limit);
+
+    List<OrderPersistenceEntity> findByIdGreaterThanEqualAndIdLessThanOrderById(Long fromId, Long toId, Limit limit);
+
+    List<OrderPersistenceEntity> findByIdGreaterThanAndIdLessThanOrderById(Long afterId, Long toId, Limit limit);
+
+    @Query("""
+        select new br.com.mardoniorodrigues.ordering.infrastructure.persistence.projection.OrderSummaryPersistenceProjection(
+            o.id, o.customerId, o.status, o.totalAmount, o.totalItems, o.placedAt)
+        from OrderPersistenceEntity o
+        where o.id = :id
+        """)
+    Optional<OrderSummaryPersistenceProjection> findSummaryById(Long id);
+
+    @Query("""
+        select new br.com.mardoniorodrigues.ordering.infrastructure.persistence.projection.OrderSummaryPersistenceProjection(
+            o.id, o.customerId, o.status, o.totalAmount, o.totalItems, o.placedAt)
+        from OrderPersistenceEntity o
+        where o.customerId = :customerId
+        order by o.id desc
+        """)
+    List<OrderSummaryPersistenceProjection> findSummariesByCustomerId(UUID customerId, Limit limit);
+
+    @Query("""
+        select new br.com.mardoniorodrigues.ordering.infrastructure.persistence.projection.OrderSummaryPersistenceProjection(
+            o.id, o.customerId, o.status, o.totalAmount, o.totalItems, o.placedAt)
+        from OrderPersistenceEntity o
+        where o.customerId = :customerId and o.id < :id
+        order by o.id desc
+        """)
+    List<OrderSummaryPersistenceProjection> findSummariesByCustomerIdAndIdLessThan(UUID customerId, Long id, Limit limit);
 }
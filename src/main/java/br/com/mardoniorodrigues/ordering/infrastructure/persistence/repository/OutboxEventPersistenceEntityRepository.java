@@ -0,0 +1,12 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository;
+
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OutboxEventPersistenceEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OutboxEventPersistenceEntityRepository extends JpaRepository<OutboxEventPersistenceEntity, Long> {
+
+    List<OutboxEventPersistenceEntity> findAllByOrderByIdAsc(Limit limit);
+}
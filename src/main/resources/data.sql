@@ -0,0 +1,3 @@
+INSERT INTO aggregate_counter (name, total)
+SELECT 'orders', (SELECT COUNT(*) FROM "order")
+WHERE NOT EXISTS (SELECT 1 FROM aggregate_counter WHERE name = 'orders');
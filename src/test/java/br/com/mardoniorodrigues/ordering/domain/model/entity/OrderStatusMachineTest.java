@@ -0,0 +1,71 @@
+package br.com.mardoniorodrigues.ordering.domain.model.entity;
+
+import br.com.mardoniorodrigues.ordering.domain.model.exception.OrderStatusCannotBeChangedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertWith;
+
+class OrderStatusMachineTest {
+
+    @Test
+    public void givenAllowedTransition_whenTransition_shouldNotifyListenersInOrder() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+        List<String> calls = new ArrayList<>();
+
+        OrderStatusMachine machine = OrderStatusMachine.builder()
+            .onAny((o, from, to, at) -> calls.add("any:" + from + "->" + to))
+            .on(OrderStatus.PLACED, (o, from, to, at) -> calls.add("placed"))
+            .on(OrderStatus.CANCELED, (o, from, to, at) -> calls.add("canceled"))
+            .build();
+
+        machine.transition(order, OrderStatus.PLACED);
+
+        assertThat(calls).containsExactly("any:DRAFT->PLACED", "placed");
+    }
+
+    @Test
+    public void givenForbiddenTransition_whenTransition_shouldThrowWithoutNotifying() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+        List<String> calls = new ArrayList<>();
+
+        OrderStatusMachine machine = OrderStatusMachine.builder()
+            .onAny((o, from, to, at) -> calls.add("any"))
+            .build();
+
+        assertThatExceptionOfType(OrderStatusCannotBeChangedException.class)
+            .isThrownBy(() -> machine.transition(order, OrderStatus.READY));
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void givenOrder_whenGoThroughLifecycle_shouldStampEachTransition() {
+
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.READY).build();
+
+        assertWith(order,
+            o -> assertThat(o.status()).isEqualTo(OrderStatus.READY),
+            o -> assertThat(o.placedAt()).isNotNull(),
+            o -> assertThat(o.paidAt()).isNotNull(),
+            o -> assertThat(o.readyAt()).isNotNull(),
+            o -> assertThat(o.canceledAt()).isNull()
+        );
+    }
+
+    @Test
+    public void givenPlacedOrder_whenPlaceAgain_shouldKeepOriginalPlacedAt() {
+
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        var placedAt = order.placedAt();
+
+        assertThatExceptionOfType(OrderStatusCannotBeChangedException.class)
+            .isThrownBy(order::place);
+        assertThat(order.placedAt()).isEqualTo(placedAt);
+    }
+}
@@ -3,6 +3,7 @@ package br.com.mardoniorodrigues.ordering.domain.model.entity;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class OrderStatusTest {
 
@@ -20,4 +21,37 @@ class OrderStatusTest {
 
         assertThat(OrderStatus.PLACED.canNotChangeTo(OrderStatus.DRAFT)).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldExposeNextStatuses() {
+
+        assertThat(OrderStatus.DRAFT.nextStatuses()).containsExactlyInAnyOrder(OrderStatus.PLACED, OrderStatus.CANCELED);
+        assertThat(OrderStatus.PLACED.nextStatuses()).containsExactlyInAnyOrder(OrderStatus.PAID, OrderStatus.CANCELED);
+        assertThat(OrderStatus.PAID.nextStatuses()).containsExactlyInAnyOrder(OrderStatus.READY, OrderStatus.CANCELED);
+        assertThat(OrderStatus.READY.nextStatuses()).containsExactly(OrderStatus.CANCELED);
+        assertThat(OrderStatus.CANCELED.nextStatuses()).isEmpty();
+    }
+
+    @Test
+    public void shouldCheckTransitionsInBatch() {
+
+        OrderStatus[] currentStatuses = { OrderStatus.DRAFT, OrderStatus.PLACED, OrderStatus.READY, OrderStatus.CANCELED };
+        OrderStatus[] newStatuses = { OrderStatus.PLACED, OrderStatus.READY, OrderStatus.CANCELED, OrderStatus.DRAFT };
+        boolean[] results = new boolean[currentStatuses.length];
+
+        int allowed = OrderStatus.canChangeAll(currentStatuses, newStatuses, results);
+
+        assertThat(allowed).isEqualTo(2);
+        assertThat(results).containsExactly(true, false, true, false);
+    }
+
+    @Test
+    public void shouldRejectBatchWithMismatchedLengths() {
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> OrderStatus.canChangeAll(
+                new OrderStatus[] { OrderStatus.DRAFT },
+                new OrderStatus[] { OrderStatus.PLACED },
+                new boolean[0]));
+    }
+}
@@ -1,6 +1,9 @@
 package br.com.mardoniorodrigues.ordering.domain.model.entity;
 
+import br.com.mardoniorodrigues.ordering.domain.model.event.OrderCanceledEvent;
+import br.com.mardoniorodrigues.ordering.domain.model.event.OrderPlacedEvent;
 import br.com.mardoniorodrigues.ordering.domain.model.exception.OrderCannotBeEditedException;
+import br.com.mardoniorodrigues.ordering.domain.model.exception.OrderCannotBePlacedException;
 import br.com.mardoniorodrigues.ordering.domain.model.exception.OrderInvalidShippingDeliveryDateException;
 import br.com.mardoniorodrigues.ordering.domain.model.exception.OrderStatusCannotBeChangedException;
 import br.com.mardoniorodrigues.ordering.domain.model.exception.ProductOutOfStockException;
@@ -11,7 +14,10 @@ import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ProductId;
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -258,4 +264,159 @@ class OrderTest {
         assertThatExceptionOfType(OrderCannotBeEditedException.class)
             .isThrownBy(addItemTask);
     }
+
+    @Test
+    public void givenManyItemChanges_whenRecalculate_shouldMatchSumOfItems() {
+
+        Order order = OrderTestDataBuilder.anOrder().withItems(false).build();
+
+        for (int i = 1; i <= 50; i++) {
+            order.addItem(ProductTestDataBuilder.aProductAltMousePad().build(), new Quantity(i));
+        }
+
+        List<OrderItem> items = List.copyOf(order.items());
+        for (int i = 0; i < items.size(); i += 3) {
+            order.removeItem(items.get(i).id());
+        }
+        for (int i = 1; i < items.size(); i += 3) {
+            order.changeItemQuantity(items.get(i).id(), new Quantity(7));
+        }
+
+        BigDecimal expectedAmount = order.items().stream()
+            .map(i -> i.totalAmount().value())
+            .reduce(order.shipping().cost().value(), BigDecimal::add);
+        int expectedQuantity = order.items().stream().mapToInt(i -> i.quantity().value()).sum();
+
+        assertWith(order,
+            o -> assertThat(o.totalAmount()).isEqualTo(new Money(expectedAmount)),
+            o -> assertThat(o.totalItems()).isEqualTo(new Quantity(expectedQuantity))
+        );
+    }
+
+    @Test
+    public void givenExistingOrder_whenChangeItemQuantity_shouldRecalculateFromExistingItems() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+        Order existingOrder = Order.existing()
+            .id(order.id())
+            .customerId(order.customerId())
+            .totalAmount(order.totalAmount())
+            .totalItems(order.totalItems())
+            .shipping(order.shipping())
+            .billing(order.billing())
+            .status(order.status())
+            .paymentMethod(order.paymentMethod())
+            .items(new HashSet<>(order.items()))
+            .build();
+
+        OrderItem item = existingOrder.items().iterator().next();
+        existingOrder.changeItemQuantity(item.id(), item.quantity());
+
+        assertWith(existingOrder,
+            o -> assertThat(o.totalAmount()).isEqualTo(order.totalAmount()),
+            o -> assertThat(o.totalItems()).isEqualTo(order.totalItems())
+        );
+    }
+
+    @Test
+    public void givenOrderWithoutItems_whenTryVerifyCanBePlaced_shouldReturnFailureWithoutThrowing() {
+
+        Order order = OrderTestDataBuilder.anOrder().withItems(false).build();
+
+        var result = order.tryVerifyCanBePlaced();
+
+        assertWith(result,
+            r -> assertThat(r.invalid()).isTrue(),
+            r -> assertThat(r.message()).contains(order.id().toString())
+        );
+    }
+
+    @Test
+    public void givenOrderWithoutItems_whenTryVerifyAndPlace_shouldReportSameViolation() {
+
+        Order order = OrderTestDataBuilder.anOrder().withItems(false).build();
+
+        var result = order.tryVerifyCanBePlaced();
+
+        assertThatExceptionOfType(OrderCannotBePlacedException.class)
+            .isThrownBy(order::place)
+            .withMessage(result.message());
+    }
+
+    @Test
+    public void givenPlaceableOrder_whenTryVerifyCanBePlaced_shouldReturnValid() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        assertThat(order.tryVerifyCanBePlaced().valid()).isTrue();
+        assertThat(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build().tryVerifyCanBePlaced().invalid()).isTrue();
+    }
+
+    @Test
+    public void givenOutOfStockProduct_whenTryCheckOutOfStock_shouldReturnFailure() {
+
+        assertThat(ProductTestDataBuilder.aProductUnavailable().build().tryCheckOutOfStock().invalid()).isTrue();
+        assertThat(ProductTestDataBuilder.aProduct().build().tryCheckOutOfStock().valid()).isTrue();
+    }
+
+    @Test
+    public void givenDraftOrder_whenPlace_shouldRecordOrderPlacedEvent() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        order.place();
+
+        assertThat(order.domainEvents()).singleElement().isInstanceOfSatisfying(OrderPlacedEvent.class, e -> assertWith(e,
+            ev -> assertThat(ev.orderId()).isEqualTo(order.id()),
+            ev -> assertThat(ev.customerId()).isEqualTo(order.customerId()),
+            ev -> assertThat(ev.occurredAt()).isEqualTo(order.placedAt())
+        ));
+    }
+
+    @Test
+    public void givenPlacedOrder_whenCancel_shouldRecordEventsInOrder() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        order.place();
+        order.cancel();
+
+        assertThat(order.domainEvents()).hasExactlyElementsOfTypes(OrderPlacedEvent.class, OrderCanceledEvent.class);
+    }
+
+    @Test
+    public void givenOrderWithEvents_whenClearDomainEvents_shouldHaveNoEvents() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+        order.place();
+
+        order.clearDomainEvents();
+
+        assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    public void givenInvalidTransition_whenChangeStatus_shouldNotRecordEvent() {
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        assertThatExceptionOfType(OrderStatusCannotBeChangedException.class).isThrownBy(order::markAsPaid);
+
+        assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    public void givenDrainedEvents_whenRestorePersistenceState_shouldBringBackVersionAndEvents() {
+
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        Order.PersistenceState state = order.persistenceState();
+
+        order.clearDomainEvents();
+        order.restore(state);
+
+        assertWith(order,
+            o -> assertThat(o.version()).isEqualTo(state.version()),
+            o -> assertThat(o.domainEvents()).containsExactlyElementsOf(state.domainEvents()).hasSize(1)
+        );
+    }
 }
@@ -1,14 +1,18 @@
 package br.com.mardoniorodrigues.ordering.domain.model.entity;
 
 import br.com.mardoniorodrigues.ordering.domain.model.exception.ShoppingCartDoesNotContainItemException;
+import br.com.mardoniorodrigues.ordering.domain.model.exception.ShoppingCartDoesNotContainProductException;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Money;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Product;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Quantity;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ProductId;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ShoppingCartItemId;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -176,4 +180,82 @@ class ShoppingCartTest {
 
         assertThat(shoppingCart1).isNotEqualTo(shoppingCart2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenCartWithManyProducts_whenMutateItems_shouldKeepTotalsConsistentWithItems() {
+
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Product product = ProductTestDataBuilder.aProductAltMousePad().id(new ProductId()).build();
+            products.add(product);
+            cart.addItem(product, new Quantity(i + 1));
+        }
+
+        cart.addItem(products.get(0), new Quantity(4));
+        cart.removeItem(cart.findItem(products.get(1).id()).id());
+        cart.changeItemQuantity(cart.findItem(products.get(2).id()).id(), new Quantity(9));
+        cart.refreshItem(ProductTestDataBuilder.aProductAltRamMemory().id(products.get(3).id()).build());
+
+        BigDecimal expectedAmount = cart.items().stream()
+            .map(i -> i.totalAmount().value())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int expectedQuantity = cart.items().stream().mapToInt(i -> i.quantity().value()).sum();
+
+        assertWith(cart,
+            c -> assertThat(c.items()).hasSize(49),
+            c -> assertThat(c.findItem(products.get(0).id()).quantity()).isEqualTo(new Quantity(5)),
+            c -> assertThat(c.totalAmount()).isEqualTo(new Money(expectedAmount)),
+            c -> assertThat(c.totalItems()).isEqualTo(new Quantity(expectedQuantity))
+        );
+    }
+
+    @Test
+    void givenCartWithRemovedItem_whenFindItemByProduct_shouldThrowShoppingCartDoesNotContainProductException() {
+
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product product = ProductTestDataBuilder.aProduct().build();
+        cart.addItem(product, new Quantity(1));
+
+        cart.removeItem(cart.findItem(product.id()).id());
+
+        assertThatExceptionOfType(ShoppingCartDoesNotContainProductException.class)
+            .isThrownBy(() -> cart.findItem(product.id()));
+    }
+
+    @Test
+    void givenEmptiedCart_whenAddSameProduct_shouldInsertNewItem() {
+
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product product = ProductTestDataBuilder.aProduct().build();
+        cart.addItem(product, new Quantity(3));
+
+        cart.empty();
+        cart.addItem(product, new Quantity(1));
+
+        assertWith(cart,
+            c -> assertThat(c.items()).hasSize(1),
+            c -> assertThat(c.totalItems()).isEqualTo(new Quantity(1)),
+            c -> assertThat(c.totalAmount()).isEqualTo(product.price())
+        );
+    }
+
+    @Test
+    void givenOverflowingQuantity_whenAddSameProduct_shouldLeaveItemAndTotalsUnchanged() {
+
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().withItems(false).build();
+        Product product = ProductTestDataBuilder.aProduct().build();
+        cart.addItem(product, new Quantity(3));
+        Product repriced = ProductTestDataBuilder.aProduct().id(product.id()).price(new Money("1")).build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> cart.addItem(repriced, new Quantity(Integer.MAX_VALUE)));
+
+        ShoppingCartItem item = cart.findItem(product.id());
+        assertWith(cart,
+            c -> assertThat(item.price()).isEqualTo(product.price()),
+            c -> assertThat(c.totalItems()).isEqualTo(new Quantity(3)),
+            c -> assertThat(c.totalAmount()).isEqualTo(item.totalAmount())
+        );
+    }
+}
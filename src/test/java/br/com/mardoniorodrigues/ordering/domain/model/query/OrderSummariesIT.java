@@ -0,0 +1,80 @@
+package br.com.mardoniorodrigues.ordering.domain.model.query;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.CursorPage;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrderSummariesPersistenceProvider;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({
+    OrdersPersistenceProvider.class,
+    OrderSummariesPersistenceProvider.class,
+    OrderPersistenceEntityAssembler.class,
+    OrderPersistenceEntityDisassembler.class,
+    OutboxEventPersistenceEntityAssembler.class
+})
+class OrderSummariesIT {
+
+    private final Orders orders;
+    private final OrderSummaries orderSummaries;
+
+    @Autowired
+    public OrderSummariesIT(Orders orders, OrderSummaries orderSummaries) {
+        this.orders = orders;
+        this.orderSummaries = orderSummaries;
+    }
+
+    @Test
+    public void shouldFindSummaryOfOrder() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(order);
+
+        assertThat(orderSummaries.ofId(order.id())).hasValueSatisfying(s -> assertThat(s).satisfies(
+            o -> assertThat(o.id()).isEqualTo(order.id()),
+            o -> assertThat(o.customerId()).isEqualTo(order.customerId()),
+            o -> assertThat(o.status()).isEqualTo(order.status()),
+            o -> assertThat(o.totalAmount()).isEqualTo(order.totalAmount()),
+            o -> assertThat(o.totalItems()).isEqualTo(order.totalItems()),
+            o -> assertThat(o.placedAt()).isEqualTo(order.placedAt())
+        ));
+    }
+
+    @Test
+    public void shouldNotFindSummaryOfUnknownOrder() {
+        assertThat(orderSummaries.ofId(new OrderId())).isEmpty();
+    }
+
+    @Test
+    public void shouldPageSummariesOfCustomer() {
+        CustomerId customerId = new CustomerId();
+        orders.addAll(IntStream.range(0, 3)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().customerId(customerId).build())
+            .toList());
+
+        CursorPage<OrderSummary> firstPage = orderSummaries.ofCustomer(customerId, null, 2);
+        CursorPage<OrderSummary> lastPage = orderSummaries.ofCustomer(customerId, firstPage.nextCursor(), 2);
+
+        assertThat(firstPage.content()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(lastPage.content()).hasSize(1);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.content().getFirst().id().value())
+            .isLessThan(firstPage.content().getLast().id().value());
+    }
+}
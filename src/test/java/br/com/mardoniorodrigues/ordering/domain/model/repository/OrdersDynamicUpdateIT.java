@@ -0,0 +1,73 @@
+package br.com.mardoniorodrigues.ordering.domain.model.repository;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.SqlStatementRecorder;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "br.com.mardoniorodrigues.ordering.infrastructure.persistence.SqlStatementRecorder")
+@Import({
+    OrdersPersistenceProvider.class,
+    OrderPersistenceEntityAssembler.class,
+    OrderPersistenceEntityDisassembler.class,
+    OutboxEventPersistenceEntityAssembler.class
+})
+class OrdersDynamicUpdateIT {
+
+    private final Orders orders;
+    private final EntityManager entityManager;
+
+    @Autowired
+    public OrdersDynamicUpdateIT(Orders orders, EntityManager entityManager) {
+        this.orders = orders;
+        this.entityManager = entityManager;
+    }
+
+    @Test
+    public void shouldUpdateOnlyChangedColumnsOnStatusTransition() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(order);
+        entityManager.clear();
+
+        Order savedOrder = orders.ofId(order.id()).orElseThrow();
+        savedOrder.markAsPaid();
+
+        SqlStatementRecorder.clear();
+        orders.add(savedOrder);
+
+        List<String> updates = SqlStatementRecorder.statementsStartingWith("update");
+        assertThat(updates).singleElement().satisfies(
+            sql -> assertThat(sql).contains("status", "paid_at", "version"),
+            sql -> assertThat(sql).doesNotContain("customer_id", "total_amount", "total_items", "placed_at",
+                "payment_method", "canceled_at", "ready_at")
+        );
+    }
+
+    @Test
+    public void shouldNotUpdateWhenNothingChanged() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        orders.add(order);
+        entityManager.clear();
+
+        Order savedOrder = orders.ofId(order.id()).orElseThrow();
+
+        SqlStatementRecorder.clear();
+        orders.add(savedOrder);
+
+        assertThat(SqlStatementRecorder.statementsStartingWith("update")).isEmpty();
+    }
+}
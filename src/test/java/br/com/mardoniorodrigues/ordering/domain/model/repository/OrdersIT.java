@@ -1,33 +1,51 @@
 package br.com.mardoniorodrigues.ordering.domain.model.repository;
 
 import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
 import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.AggregateCounterPersistenceEntityRepository;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 @DataJpaTest
 @Import({
     OrdersPersistenceProvider.class,
     OrderPersistenceEntityAssembler.class,
-    OrderPersistenceEntityDisassembler.class
+    OrderPersistenceEntityDisassembler.class,
+    OutboxEventPersistenceEntityAssembler.class
 })
 class OrdersIT {
 
     private Orders orders;
+    private EntityManager entityManager;
+    private AggregateCounterPersistenceEntityRepository counterRepository;
 
     @Autowired
-    public OrdersIT(Orders orders) {
+    public OrdersIT(Orders orders, EntityManager entityManager, AggregateCounterPersistenceEntityRepository counterRepository) {
         this.orders = orders;
+        this.entityManager = entityManager;
+        this.counterRepository = counterRepository;
     }
 
     @Test
@@ -52,7 +70,205 @@ class OrdersIT {
             s -> assertThat(s.canceledAt()).isEqualTo(originalOrder.canceledAt()),
             s -> assertThat(s.readyAt()).isEqualTo(originalOrder.readyAt()),
             s -> assertThat(s.status()).isEqualTo(originalOrder.status()),
-            s -> assertThat(s.paymentMethod()).isEqualTo(originalOrder.paymentMethod())
+            s -> assertThat(s.paymentMethod()).isEqualTo(originalOrder.paymentMethod()),
+            s -> assertThat(s.items()).hasSameSizeAs(originalOrder.items())
         );
     }
+
+    @Test
+    public void shouldPersistAllInBatchesAndFind() {
+        List<Order> originalOrders = IntStream.range(0, 120)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().build())
+            .toList();
+
+        orders.addAll(originalOrders);
+
+        assertThat(originalOrders).allSatisfy(
+            o -> assertThat(orders.ofId(o.id())).hasValueSatisfying(
+                s -> assertThat(s.totalAmount()).isEqualTo(o.totalAmount())
+            )
+        );
+    }
+
+    @Test
+    public void shouldKeepCallerEntitiesManagedWhenPersistingAll() {
+        Order existingOrder = OrderTestDataBuilder.anOrder().build();
+        orders.add(existingOrder);
+        OrderPersistenceEntity managed = entityManager.find(OrderPersistenceEntity.class, existingOrder.id().value().toLong());
+
+        orders.addAll(IntStream.range(0, 120)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build())
+            .toList());
+
+        assertThat(entityManager.contains(managed)).isTrue();
+    }
+
+    @Test
+    public void shouldAssignVersionWhenPersisting() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        orders.add(order);
+
+        assertThat(order.version()).isNotNull();
+    }
+
+    @Test
+    public void shouldUpdateExistingOrder() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(order);
+
+        Order savedOrder = orders.ofId(order.id()).orElseThrow();
+        savedOrder.markAsPaid();
+        orders.add(savedOrder);
+
+        assertThat(orders.ofId(order.id())).hasValueSatisfying(
+            s -> {
+                assertThat(s.status()).isEqualTo(OrderStatus.PAID);
+                assertThat(s.paidAt()).isNotNull();
+                assertThat(s.version()).isGreaterThan(order.version());
+            }
+        );
+    }
+
+    @Test
+    public void shouldNotUpdateStaleOrder() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(order);
+
+        Order firstCopy = orders.ofId(order.id()).orElseThrow();
+        Order secondCopy = orders.ofId(order.id()).orElseThrow();
+
+        firstCopy.markAsPaid();
+        orders.add(firstCopy);
+
+        secondCopy.cancel();
+
+        assertThatExceptionOfType(OptimisticLockingFailureException.class)
+            .isThrownBy(() -> orders.add(secondCopy));
+    }
+
+    @Test
+    public void shouldCheckExistence() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        orders.add(order);
+
+        assertThat(orders.exists(order.id())).isTrue();
+        assertThat(orders.exists(new OrderId())).isFalse();
+    }
+
+    @Test
+    public void shouldReadOnlyStatusOfOrder() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(order);
+
+        assertThat(orders.statusOf(order.id())).contains(OrderStatus.PLACED);
+        assertThat(orders.statusOf(new OrderId())).isEmpty();
+    }
+
+    @Test
+    public void shouldSeedCounterRowAtStartup() {
+        assertThat(counterRepository.totalOf("orders")).isPresent();
+    }
+
+    @Test
+    public void shouldCountWithoutWritingWhenCounterRowIsMissing() {
+        orders.add(OrderTestDataBuilder.anOrder().build());
+        counterRepository.deleteAllInBatch();
+
+        int total = orders.count();
+
+        assertThat(total).isPositive();
+        assertThat(counterRepository.count()).isZero();
+    }
+
+    @Test
+    public void shouldFailToAddWhenCounterRowIsMissing() {
+        counterRepository.deleteAllInBatch();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> orders.add(OrderTestDataBuilder.anOrder().build()));
+    }
+
+    @Test
+    public void shouldCountAddedOrders() {
+        int initialCount = orders.count();
+
+        orders.add(OrderTestDataBuilder.anOrder().build());
+        orders.addAll(List.of(
+            OrderTestDataBuilder.anOrder().build(),
+            OrderTestDataBuilder.anOrder().build()
+        ));
+
+        assertThat(orders.count()).isEqualTo(initialCount + 3);
+    }
+
+    @Test
+    public void shouldNotCountUpdatedOrdersTwice() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        orders.add(order);
+        int countAfterInsert = orders.count();
+
+        order.markAsPaid();
+        orders.add(order);
+
+        assertThat(orders.count()).isEqualTo(countAfterInsert);
+    }
+
+    @Test
+    public void shouldPageOrdersOfCustomerByCursor() {
+        CustomerId customerId = new CustomerId();
+        List<Order> customerOrders = IntStream.range(0, 5)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().customerId(customerId).build())
+            .toList();
+        orders.addAll(customerOrders);
+        orders.add(OrderTestDataBuilder.anOrder().build());
+
+        CursorPage<Order> firstPage = orders.ofCustomer(customerId, null, 2);
+        CursorPage<Order> secondPage = orders.ofCustomer(customerId, firstPage.nextCursor(), 2);
+        CursorPage<Order> lastPage = orders.ofCustomer(customerId, secondPage.nextCursor(), 2);
+
+        List<OrderId> expectedIds = customerOrders.stream()
+            .map(Order::id)
+            .sorted(Comparator.comparing(OrderId::value).reversed())
+            .toList();
+
+        assertThat(firstPage.content()).extracting(Order::id).containsExactlyElementsOf(expectedIds.subList(0, 2));
+        assertThat(secondPage.content()).extracting(Order::id).containsExactlyElementsOf(expectedIds.subList(2, 4));
+        assertThat(lastPage.content()).extracting(Order::id).containsExactlyElementsOf(expectedIds.subList(4, 5));
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldFindOrdersCreatedInTimeWindow() {
+        OffsetDateTime from = OffsetDateTime.now().minusSeconds(1);
+        Order order = OrderTestDataBuilder.anOrder().build();
+        orders.add(order);
+        OffsetDateTime to = OffsetDateTime.now().plusSeconds(1);
+
+        assertThat(orders.createdBetween(from, to, null, 100).content()).extracting(Order::id).contains(order.id());
+        assertThat(orders.createdBetween(from.minusHours(2), from.minusHours(1), null, 100).content()).isEmpty();
+    }
+
+    @Test
+    public void shouldPageOrdersCreatedInTimeWindowByCursor() {
+        OffsetDateTime from = OffsetDateTime.now().minusSeconds(1);
+        List<Order> windowOrders = IntStream.range(0, 5)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().build())
+            .toList();
+        orders.addAll(windowOrders);
+        OffsetDateTime to = OffsetDateTime.now().plusSeconds(1);
+
+        List<OrderId> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Order> page = orders.createdBetween(from, to, cursor, 2);
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(2);
+            page.content().forEach(o -> seen.add(o.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).doesNotHaveDuplicates()
+            .isSortedAccordingTo(Comparator.comparing(OrderId::value))
+            .containsAll(windowOrders.stream().map(Order::id).toList());
+    }
 }
@@ -0,0 +1,114 @@
+package br.com.mardoniorodrigues.ordering.domain.model.repository;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OrderPersistenceEntityRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({
+    OrdersPersistenceProvider.class,
+    OrderPersistenceEntityAssembler.class,
+    OrderPersistenceEntityDisassembler.class,
+    OutboxEventPersistenceEntityAssembler.class
+})
+class OrdersQueryCountIT {
+
+    private final Orders orders;
+    private final OrderPersistenceEntityRepository persistenceRepository;
+    private final OrderPersistenceEntityDisassembler disassembler;
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    @Autowired
+    public OrdersQueryCountIT(Orders orders,
+                              OrderPersistenceEntityRepository persistenceRepository,
+                              OrderPersistenceEntityDisassembler disassembler,
+                              EntityManager entityManager,
+                              EntityManagerFactory entityManagerFactory) {
+        this.orders = orders;
+        this.persistenceRepository = persistenceRepository;
+        this.disassembler = disassembler;
+        this.entityManager = entityManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    public void setup() {
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    public void shouldLoadOrderWithItemsInASingleStatement() {
+        Order originalOrder = OrderTestDataBuilder.anOrder().build();
+        orders.add(originalOrder);
+        entityManager.clear();
+        statistics.clear();
+
+        Order savedOrder = orders.ofId(originalOrder.id()).orElseThrow();
+
+        assertThat(savedOrder.items()).hasSameSizeAs(originalOrder.items());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldLoadBillingAndShippingFromTheOrderRow() {
+        Order originalOrder = OrderTestDataBuilder.anOrder().build();
+        orders.add(originalOrder);
+        entityManager.clear();
+        statistics.clear();
+
+        Order savedOrder = orders.ofId(originalOrder.id()).orElseThrow();
+
+        assertThat(savedOrder.billing()).isEqualTo(originalOrder.billing());
+        assertThat(savedOrder.shipping()).isEqualTo(originalOrder.shipping());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReadStatusWithoutLoadingItems() {
+        Order originalOrder = OrderTestDataBuilder.anOrder().build();
+        orders.add(originalOrder);
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(orders.statusOf(originalOrder.id())).contains(originalOrder.status());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void shouldLoadPageOfOrdersWithItemsInConstantStatements() {
+        List<Order> originalOrders = IntStream.range(0, 20)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().build())
+            .toList();
+        orders.addAll(originalOrders);
+        statistics.clear();
+
+        List<Long> ids = originalOrders.stream().map(o -> o.id().value().toLong()).toList();
+        List<Order> savedOrders = persistenceRepository.findAllById(ids).stream()
+            .map(disassembler::toDomainEntity)
+            .toList();
+
+        assertThat(savedOrders).hasSize(originalOrders.size())
+            .allSatisfy(o -> assertThat(o.items()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
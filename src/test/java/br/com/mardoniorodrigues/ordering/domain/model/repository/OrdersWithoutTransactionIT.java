@@ -0,0 +1,65 @@
+package br.com.mardoniorodrigues.ordering.domain.model.repository;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+    OrdersPersistenceProvider.class,
+    OrderPersistenceEntityAssembler.class,
+    OrderPersistenceEntityDisassembler.class,
+    OutboxEventPersistenceEntityAssembler.class
+})
+class OrdersWithoutTransactionIT {
+
+    private final Orders orders;
+
+    @Autowired
+    public OrdersWithoutTransactionIT(Orders orders) {
+        this.orders = orders;
+    }
+
+    @Test
+    public void shouldLoadItemsOfCustomerOrdersWithoutCallerTransaction() {
+        CustomerId customerId = new CustomerId();
+        List<Order> customerOrders = IntStream.range(0, 3)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().customerId(customerId).build())
+            .toList();
+        orders.addAll(customerOrders);
+
+        CursorPage<Order> page = orders.ofCustomer(customerId, null, 2);
+
+        assertThat(page.content()).hasSize(2)
+            .allSatisfy(o -> assertThat(o.items()).hasSize(2));
+    }
+
+    @Test
+    public void shouldLoadItemsOfOrdersCreatedInWindowWithoutCallerTransaction() {
+        OffsetDateTime from = OffsetDateTime.now().minusSeconds(1);
+        orders.add(OrderTestDataBuilder.anOrder().build());
+        OffsetDateTime to = OffsetDateTime.now().plusSeconds(1);
+
+        CursorPage<Order> page = orders.createdBetween(from, to, null, 10);
+
+        assertThat(page.content()).isNotEmpty()
+            .allSatisfy(o -> assertThat(o.items()).hasSize(2));
+    }
+}
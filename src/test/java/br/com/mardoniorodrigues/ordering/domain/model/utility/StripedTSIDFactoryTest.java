@@ -0,0 +1,79 @@
+package br.com.mardoniorodrigues.ordering.domain.model.utility;
+
+import io.hypersistence.tsid.TSID;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class StripedTSIDFactoryTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    @Test
+    void givenStripes_whenGenerateConcurrently_shouldProduceUniqueIds() throws InterruptedException {
+        StripedTSIDFactory factory = new StripedTSIDFactory(3, 4, 8, 1, 5);
+
+        assertThat(generateConcurrently(factory)).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    void givenBlocks_whenGenerateConcurrently_shouldProduceUniqueIds() throws InterruptedException {
+        StripedTSIDFactory factory = new StripedTSIDFactory(3, 4, 8, 64, 5);
+
+        assertThat(generateConcurrently(factory)).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    void givenStripedFactory_whenGenerate_shouldKeepMillisecondOrdering() throws InterruptedException {
+        StripedTSIDFactory factory = new StripedTSIDFactory(0, 10, 4, 1, 5);
+
+        TSID first = factory.generate();
+        Thread.sleep(2);
+        TSID second = factory.generate();
+
+        assertThat(second.getUnixMilliseconds()).isGreaterThan(first.getUnixMilliseconds());
+        assertThat(IdGenerator.lowestTSIDAt(second.getInstant()).toLong()).isLessThanOrEqualTo(second.toLong());
+    }
+
+    @Test
+    void givenIdleBlock_whenOlderThanMaxAge_shouldRefillWithFreshTimePrefix() throws InterruptedException {
+        StripedTSIDFactory factory = new StripedTSIDFactory(0, 10, 4, 1024, 1);
+
+        TSID first = factory.generate();
+        Thread.sleep(5);
+        TSID second = factory.generate();
+
+        assertThat(second.getUnixMilliseconds()).isGreaterThan(first.getUnixMilliseconds());
+    }
+
+    @Test
+    void givenInvalidSettings_whenCreate_shouldThrowIllegalArgumentException() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StripedTSIDFactory(0, 10, 3, 1, 5));
+        assertThatIllegalArgumentException().isThrownBy(() -> new StripedTSIDFactory(0, 18, 8, 1, 5));
+        assertThatIllegalArgumentException().isThrownBy(() -> new StripedTSIDFactory(0, 10, 4, 0, 5));
+        assertThatIllegalArgumentException().isThrownBy(() -> new StripedTSIDFactory(0, 10, 4, 64, -1));
+    }
+
+    private static Set<Long> generateConcurrently(StripedTSIDFactory factory) throws InterruptedException {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    ids.add(factory.generate().toLong());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        return ids;
+    }
+}
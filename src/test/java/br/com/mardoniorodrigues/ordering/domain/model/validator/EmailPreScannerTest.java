@@ -0,0 +1,81 @@
+package br.com.mardoniorodrigues.ordering.domain.model.validator;
+
+import org.apache.commons.validator.routines.EmailValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertWith;
+
+class EmailPreScannerTest {
+
+    private static final List<String> SAMPLES = List.of(
+        "john.doe@hotmail.com",
+        "a@b.com",
+        "first_last+tag@mail.example.com.br",
+        "UPPER.CASE@EXAMPLE.ORG",
+        "123@456.net",
+        "d1b8c3e0-1d1f-4c3e-9a0b-2e3c4d5e6f70@anonymous.com",
+        "john..doe@example.com",
+        ".john@example.com",
+        "john.@example.com",
+        "john@-example.com",
+        "john@example-.com",
+        "john@example..com",
+        "john@.example.com",
+        "john@example.com.",
+        "john@example",
+        "john@example.c0m",
+        "john@example.museum",
+        "john@localhost",
+        "john@[127.0.0.1]",
+        "\"john doe\"@example.com",
+        "john doe@example.com",
+        "john@doe@example.com",
+        "john@",
+        "@example.com",
+        "invalid",
+        "josé@example.com",
+        "john@exämple.com",
+        "o'neil@example.com",
+        "a".repeat(64) + "@example.com",
+        "a".repeat(65) + "@example.com",
+        "john@" + "a".repeat(63) + ".com",
+        "john@" + "a".repeat(64) + ".com",
+        "john@" + ("a".repeat(60) + ".").repeat(5) + "com"
+    );
+
+    @Test
+    void givenSamples_whenScan_shouldNeverDisagreeWithEmailValidator() {
+        EmailValidator validator = EmailValidator.getInstance();
+
+        for (String email : SAMPLES) {
+            EmailPreScanner.Verdict verdict = EmailPreScanner.scan(email);
+            if (verdict != EmailPreScanner.Verdict.UNKNOWN) {
+                assertThat(verdict == EmailPreScanner.Verdict.VALID)
+                    .as(email)
+                    .isEqualTo(validator.isValid(email));
+            }
+        }
+    }
+
+    @Test
+    void givenCommonInputs_whenScan_shouldSettleWithoutFullValidator() {
+        assertWith(EmailPreScanner.scan("john.doe@hotmail.com"), v -> assertThat(v).isEqualTo(EmailPreScanner.Verdict.VALID));
+        assertWith(EmailPreScanner.scan("invalid"), v -> assertThat(v).isEqualTo(EmailPreScanner.Verdict.INVALID));
+        assertWith(EmailPreScanner.scan("john@example.com."), v -> assertThat(v).isEqualTo(EmailPreScanner.Verdict.INVALID));
+        assertWith(EmailPreScanner.scan("john@example.museum"), v -> assertThat(v).isEqualTo(EmailPreScanner.Verdict.UNKNOWN));
+    }
+
+    @Test
+    void givenSamples_whenValidateEmail_shouldMatchEmailValidator() {
+        EmailValidator validator = EmailValidator.getInstance();
+
+        for (String email : SAMPLES) {
+            assertThat(FieldValidations.validateEmail(email, "invalid").valid())
+                .as(email)
+                .isEqualTo(!email.isBlank() && validator.isValid(email));
+        }
+    }
+}
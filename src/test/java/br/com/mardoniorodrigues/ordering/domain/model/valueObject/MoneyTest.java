@@ -0,0 +1,76 @@
+package br.com.mardoniorodrigues.ordering.domain.model.valueObject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MoneyTest {
+
+    @Test
+    void shouldGenerateWithScaledValue() {
+        Money money = new Money("10.005");
+
+        assertThat(money.value()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(money.toString()).isEqualTo("10.00");
+    }
+
+    @Test
+    void shouldAddValue() {
+        Money money = new Money("10.50").add(new Money("0.75"));
+
+        assertThat(money).isEqualTo(new Money("11.25"));
+        assertThat(money.value()).isEqualTo(new BigDecimal("11.25"));
+    }
+
+    @Test
+    void shouldMultiplyByQuantity() {
+        Money money = new Money("19.99").multiply(new Quantity(3));
+
+        assertThat(money).isEqualTo(new Money("59.97"));
+    }
+
+    @Test
+    void shouldDivideRoundingHalfEven() {
+        assertThat(new Money("0.05").divide(new Money("2"))).isEqualTo(new Money("0.02"));
+        assertThat(new Money("0.07").divide(new Money("2"))).isEqualTo(new Money("0.04"));
+        assertThat(new Money("10").divide(new Money("3"))).isEqualTo(new Money("3.33"));
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalOnOverflow() {
+        Money large = new Money(new BigDecimal(Long.MAX_VALUE).movePointLeft(2));
+
+        Money added = large.add(new Money("0.01"));
+        Money multiplied = large.multiply(new Quantity(2));
+
+        assertThat(added.value()).isEqualTo(new BigDecimal("92233720368547758.08"));
+        assertThat(multiplied.value()).isEqualTo(new BigDecimal("184467440737095516.14"));
+        assertThat(added).isEqualTo(new Money("92233720368547758.08"));
+        assertThat(added).isGreaterThan(large);
+    }
+
+    @Test
+    void shouldBeEqualRegardlessOfHowValueWasBuilt() {
+        Money computed = new Money("0.10").add(new Money("0.20"));
+        Money parsed = new Money(new BigDecimal("0.3"));
+
+        assertThat(computed).isEqualTo(parsed);
+        assertThat(computed.hashCode()).isEqualTo(parsed.hashCode());
+        assertThat(computed.compareTo(parsed)).isZero();
+    }
+
+    @Test
+    void shouldThrowExceptionForNegativeValue() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new Money("-0.01"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDividingByZero() {
+        assertThatExceptionOfType(ArithmeticException.class)
+            .isThrownBy(() -> new Money("1").divide(Money.ZERO));
+    }
+}
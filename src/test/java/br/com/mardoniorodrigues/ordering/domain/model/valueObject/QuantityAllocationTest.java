@@ -0,0 +1,94 @@
+package br.com.mardoniorodrigues.ordering.domain.model.valueObject;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.ShoppingCart;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.ShoppingCartItem;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.ShoppingCartTestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class QuantityAllocationTest {
+
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    /*
+     * A cart update still builds Money for the item and the cart, so the cart
+     * path itself is not allocation free. The Quantity operations it performs
+     * are measured on their own instead, where a single allocation per call
+     * would add megabytes over the loop.
+     */
+    private final Quantity[] sink = new Quantity[64];
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void givenSteadyStateCart_whenChangeItemQuantity_shouldReuseCachedQuantities() {
+        ShoppingCart cart = ShoppingCartTestDataBuilder.aShoppingCart().build();
+        List<ShoppingCartItem> items = List.copyOf(cart.items());
+
+        updateCart(cart, items, WARM_UP_ITERATIONS);
+
+        ShoppingCartItem item = items.get(0);
+        assertThat(item.quantity()).isSameAs(Quantity.of(item.quantity().value()));
+        assertThat(cart.totalItems()).isSameAs(Quantity.of(cart.totalItems().value()));
+    }
+
+    @Test
+    void givenCartQuantityOperations_whenRunInSteadyState_shouldNotAllocate() {
+        updateQuantities(WARM_UP_ITERATIONS);
+
+        long allocatedBytes = allocatedBytesDuring(() -> updateQuantities(ITERATIONS));
+
+        assertThat(allocatedBytes).isLessThan(1024);
+    }
+
+    @Test
+    void givenSmallValues_whenOf_shouldReturnCanonicalInstances() {
+        assertThat(Quantity.of(5)).isSameAs(Quantity.of(5));
+        assertThat(Quantity.of(2).add(Quantity.of(3))).isSameAs(Quantity.of(5));
+        assertThat(Quantity.of(0)).isSameAs(Quantity.ZERO);
+        assertThat(LoyaltyPoints.of(10).add(5)).isSameAs(LoyaltyPoints.of(15));
+        assertThat(Quantity.of(100_000)).isEqualTo(new Quantity(100_000));
+    }
+
+    private static void updateCart(ShoppingCart cart, List<ShoppingCartItem> items, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            ShoppingCartItem item = items.get(i % items.size());
+            cart.changeItemQuantity(item.id(), Quantity.of(i % 10 + 1));
+        }
+    }
+
+    // the same steps as changeItemQuantity: the new item quantity, then the cart total rebuilt from ints
+    private void updateQuantities(int iterations) {
+        int itemsTotalQuantity = 3;
+        Quantity previous = Quantity.of(2);
+        for (int i = 0; i < iterations; i++) {
+            Quantity quantity = Quantity.of(i % 10 + 1);
+            itemsTotalQuantity += quantity.value() - previous.value();
+            Quantity totalItems = Quantity.of(itemsTotalQuantity).add(Quantity.ZERO);
+            sink[i & 31] = quantity;
+            sink[32 + (i & 31)] = totalItems;
+            previous = quantity;
+        }
+    }
+
+    private long allocatedBytesDuring(Runnable runnable) {
+        long threadId = Thread.currentThread().threadId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        runnable.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -29,4 +29,10 @@ class QuantityTest {
                 new Quantity(-1);
             });
     }
+
+    @Test
+    void shouldValidateWithoutThrowing() {
+        assertThat(Quantity.tryValidate(5).valid()).isTrue();
+        assertThat(Quantity.tryValidate(-1).invalid()).isTrue();
+    }
 }
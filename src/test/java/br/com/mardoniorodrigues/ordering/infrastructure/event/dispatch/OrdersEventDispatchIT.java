@@ -0,0 +1,63 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+    OrdersPersistenceProvider.class,
+    OrderPersistenceEntityAssembler.class,
+    OrderPersistenceEntityDisassembler.class,
+    OutboxEventPersistenceEntityAssembler.class,
+    OrdersEventDispatchIT.StoppedDispatcherConfig.class
+})
+class OrdersEventDispatchIT {
+
+    private final Orders orders;
+    private final RingBufferDomainEventDispatcher dispatcher;
+
+    @Autowired
+    public OrdersEventDispatchIT(Orders orders, RingBufferDomainEventDispatcher dispatcher) {
+        this.orders = orders;
+        this.dispatcher = dispatcher;
+    }
+
+    @Test
+    public void shouldCommitAndCountDroppedEventsWhenDispatcherIsStopped() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
+
+        orders.add(order);
+
+        assertThat(orders.exists(order.id())).isTrue();
+        assertThat(dispatcher.droppedCount()).isEqualTo(2);
+    }
+
+    @Configuration
+    static class StoppedDispatcherConfig {
+
+        @Bean
+        RingBufferDomainEventDispatcher domainEventDispatcher() {
+            return new RingBufferDomainEventDispatcher(4, WaitStrategy.SLEEPING,
+                List.of((event, sequence, endOfBatch) -> {}));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.dispatch;
+
+import br.com.mardoniorodrigues.ordering.domain.model.event.DomainEvent;
+import br.com.mardoniorodrigues.ordering.domain.model.event.OrderPlacedEvent;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RingBufferDomainEventDispatcherTest {
+
+    private static final List<DomainEvent> EVENTS = IntStream.range(0, 64)
+        .<DomainEvent>mapToObj(i -> new OrderPlacedEvent(new OrderId(), new CustomerId(), OffsetDateTime.now()))
+        .toList();
+
+    @Test
+    void givenSmallBuffer_whenPublishMoreThanItHolds_shouldDeliverEveryEventInOrderToEveryHandler() {
+        List<DomainEvent> first = new CopyOnWriteArrayList<>();
+        List<DomainEvent> second = new CopyOnWriteArrayList<>();
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(8, WaitStrategy.YIELDING,
+            List.of((event, sequence, endOfBatch) -> first.add(event), (event, sequence, endOfBatch) -> second.add(event)));
+
+        dispatcher.start();
+        for (int i = 0; i < 1_000; i++) {
+            dispatcher.publish(EVENTS.get(i % EVENTS.size()));
+        }
+        dispatcher.close();
+
+        List<DomainEvent> expected = IntStream.range(0, 1_000).mapToObj(i -> EVENTS.get(i % EVENTS.size())).toList();
+        assertThat(first).containsExactlyElementsOf(expected);
+        assertThat(second).containsExactlyElementsOf(expected);
+        assertThat(dispatcher.cursor()).isEqualTo(999);
+    }
+
+    @Test
+    void givenBatchedDelivery_whenClose_shouldEndLastBatchOnLastSequence() {
+        AtomicInteger batches = new AtomicInteger();
+        List<Long> sequences = new CopyOnWriteArrayList<>();
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(16, WaitStrategy.SLEEPING,
+            List.of((event, sequence, endOfBatch) -> {
+                sequences.add(sequence);
+                if (endOfBatch) {
+                    batches.incrementAndGet();
+                }
+            }));
+
+        dispatcher.start();
+        dispatcher.publishAll(EVENTS);
+        dispatcher.close();
+
+        assertThat(sequences).hasSize(EVENTS.size()).isSorted().endsWith((long) EVENTS.size() - 1);
+        assertThat(batches.get()).isBetween(1, EVENTS.size());
+    }
+
+    @Test
+    void givenFailingHandler_whenPublish_shouldKeepDelivering() {
+        AtomicInteger handled = new AtomicInteger();
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(4, WaitStrategy.YIELDING,
+            List.of((event, sequence, endOfBatch) -> {
+                handled.incrementAndGet();
+                if (sequence % 2 == 0) {
+                    throw new IllegalStateException();
+                }
+            }));
+
+        dispatcher.start();
+        dispatcher.publishAll(EVENTS.subList(0, 10));
+        dispatcher.close();
+
+        assertThat(handled.get()).isEqualTo(10);
+    }
+
+    @Test
+    void givenInvalidConfiguration_whenCreate_shouldFail() {
+        DomainEventHandler handler = (event, sequence, endOfBatch) -> {};
+
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new RingBufferDomainEventDispatcher(12, WaitStrategy.SLEEPING, List.of(handler)));
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new RingBufferDomainEventDispatcher(16, WaitStrategy.SLEEPING, List.of()));
+    }
+
+    @Test
+    void givenStoppedDispatcher_whenPublish_shouldFail() {
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(16, WaitStrategy.SLEEPING,
+            List.of((event, sequence, endOfBatch) -> {}));
+
+        assertThatIllegalStateException().isThrownBy(() -> dispatcher.publish(EVENTS.get(0)));
+    }
+
+    @Test
+    void givenHandledEvent_whenEveryConsumerPassedIt_shouldNotKeepItReachable() {
+        AtomicInteger handled = new AtomicInteger();
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(16, WaitStrategy.YIELDING,
+            List.of((event, sequence, endOfBatch) -> handled.incrementAndGet(),
+                (event, sequence, endOfBatch) -> handled.incrementAndGet()));
+        dispatcher.start();
+
+        WeakReference<DomainEvent> published = publishFreshEvent(dispatcher);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((handled.get() < 2 || published.get() != null) && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.yield();
+        }
+        dispatcher.close();
+
+        assertThat(handled.get()).isEqualTo(2);
+        assertThat(published.get()).isNull();
+    }
+
+    @Test
+    void givenStoppedDispatcher_whenTryPublish_shouldDropAndCount() {
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(16, WaitStrategy.SLEEPING,
+            List.of((event, sequence, endOfBatch) -> {}));
+
+        assertThat(dispatcher.tryPublish(EVENTS.get(0))).isFalse();
+        assertThat(dispatcher.tryPublishAll(EVENTS.subList(0, 3))).isZero();
+        assertThat(dispatcher.droppedCount()).isEqualTo(4);
+        assertThat(dispatcher.cursor()).isEqualTo(-1);
+    }
+
+    @Test
+    void givenStuckHandler_whenTryPublishBeyondCapacity_shouldDropInsteadOfBlocking() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(4, WaitStrategy.YIELDING,
+            List.of((event, sequence, endOfBatch) -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.incrementAndGet();
+            }));
+
+        dispatcher.start();
+        int published = dispatcher.tryPublishAll(EVENTS.subList(0, 10));
+        release.countDown();
+        dispatcher.close();
+
+        assertThat(published).isEqualTo(4);
+        assertThat(dispatcher.droppedCount()).isEqualTo(6);
+        assertThat(handled.get()).isEqualTo(4);
+    }
+
+    @Test
+    void givenSteadyState_whenPublish_shouldNotAllocate() {
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        RingBufferDomainEventDispatcher dispatcher = new RingBufferDomainEventDispatcher(1024, WaitStrategy.YIELDING,
+            List.of((event, sequence, endOfBatch) -> {}));
+        dispatcher.start();
+        publish(dispatcher, 100_000);
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        publish(dispatcher, 100_000);
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        dispatcher.close();
+
+        assertThat(allocatedBytes).isLessThan(1024);
+    }
+
+    private static WeakReference<DomainEvent> publishFreshEvent(RingBufferDomainEventDispatcher dispatcher) {
+        DomainEvent event = new OrderPlacedEvent(new OrderId(), new CustomerId(), OffsetDateTime.now());
+        dispatcher.publish(event);
+        return new WeakReference<>(event);
+    }
+
+    private static void publish(RingBufferDomainEventDispatcher dispatcher, int count) {
+        for (int i = 0; i < count; i++) {
+            dispatcher.publish(EVENTS.get(i & 63));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final List<List<OutboxMessage>> batches = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        batches.add(List.copyOf(messages));
+    }
+
+    public List<List<OutboxMessage>> batches() {
+        return List.copyOf(batches);
+    }
+
+    public List<OutboxMessage> messages() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.event.outbox;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.SqlStatementRecorder;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OutboxEventPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider.OrdersPersistenceProvider;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.repository.OutboxEventPersistenceEntityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "br.com.mardoniorodrigues.ordering.infrastructure.persistence.SqlStatementRecorder")
+@Import({
+    OrdersPersistenceProvider.class,
+    OrderPersistenceEntityAssembler.class,
+    OrderPersistenceEntityDisassembler.class,
+    OutboxEventPersistenceEntityAssembler.class
+})
+class OutboxRelayIT {
+
+    private final Orders orders;
+    private final OutboxEventPersistenceEntityRepository outboxRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Autowired
+    public OutboxRelayIT(Orders orders,
+                         OutboxEventPersistenceEntityRepository outboxRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.orders = orders;
+        this.outboxRepository = outboxRepository;
+        this.transactionManager = transactionManager;
+    }
+
+    @Test
+    public void shouldWriteEventsToOutboxWhenAddingOrder() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
+
+        orders.add(order);
+
+        assertThat(outboxRepository.findAll())
+            .extracting(e -> e.getEventType())
+            .containsExactlyInAnyOrder("OrderPlaced", "OrderPaid");
+        assertThat(outboxRepository.findAll())
+            .allSatisfy(e -> assertThat(e.getAggregateId()).isEqualTo(order.id().toString()))
+            .allSatisfy(e -> assertThat(e.getPayload()).contains(order.customerId().value().toString()));
+        assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotWriteToOutboxWhenNothingHappened() {
+        orders.add(OrderTestDataBuilder.anOrder().build());
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    public void shouldInsertOutboxRowsOfManyOrdersInOneBatch() {
+        List<Order> placedOrders = IntStream.range(0, 10)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build())
+            .toList();
+
+        SqlStatementRecorder.clear();
+        orders.addAll(placedOrders);
+
+        assertThat(outboxRepository.count()).isEqualTo(10);
+        assertThat(SqlStatementRecorder.statementsStartingWith("insert into outbox_event")).hasSize(1);
+    }
+
+    @Test
+    public void shouldDrainOutboxInBatchesInOrder() {
+        orders.addAll(IntStream.range(0, 5)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build())
+            .toList());
+        InMemoryOutboxEventSink sink = new InMemoryOutboxEventSink();
+        OutboxRelay relay = new OutboxRelay(outboxRepository, sink, transactionManager, 2);
+
+        int relayed = relay.drain();
+
+        assertThat(relayed).isEqualTo(5);
+        assertThat(sink.batches()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(sink.messages()).extracting(OutboxMessage::id).isSorted();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    public void shouldKeepBatchInOutboxWhenSinkFails() {
+        orders.add(OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build());
+        OutboxRelay relay = new OutboxRelay(outboxRepository, messages -> {
+            throw new IllegalStateException();
+        }, transactionManager, 10);
+
+        assertThatIllegalStateException().isThrownBy(relay::drain);
+
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+}
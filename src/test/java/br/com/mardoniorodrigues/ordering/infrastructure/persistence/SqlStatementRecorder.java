@@ -0,0 +1,31 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    public static List<String> statementsStartingWith(String prefix) {
+        return statements.stream()
+            .filter(s -> s.regionMatches(true, 0, prefix, 0, prefix.length()))
+            .toList();
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+}
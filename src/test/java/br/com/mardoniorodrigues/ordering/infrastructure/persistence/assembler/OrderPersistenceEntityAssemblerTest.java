@@ -1,7 +1,12 @@
 package br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler;
 
 import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderItem;
 import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.PaymentMethod;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderItemPersistenceEntity;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
 import org.junit.jupiter.api.Test;
 
@@ -28,4 +33,59 @@ class OrderPersistenceEntityAssemblerTest {
             p -> assertThat(p.getReadyAt()).isEqualTo(order.readyAt())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldConvertItemsToPersistence() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        OrderPersistenceEntity orderPersistenceEntity = assembler.fromDomain(order);
+
+        assertThat(orderPersistenceEntity.getItems())
+            .hasSameSizeAs(order.items())
+            .allSatisfy(i -> assertThat(i.getOrder()).isSameAs(orderPersistenceEntity))
+            .extracting(OrderItemPersistenceEntity::getId)
+            .containsExactlyInAnyOrderElementsOf(
+                order.items().stream().map(i -> i.id().value().toLong()).toList()
+            );
+    }
+
+    @Test
+    void shouldRemoveItemsNoLongerInOrderWhenMerging() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        OrderPersistenceEntity orderPersistenceEntity = assembler.fromDomain(order);
+        OrderItemPersistenceEntity keptItem = orderPersistenceEntity.getItems().iterator().next();
+
+        order.items().stream()
+            .filter(i -> !i.id().value().toLong().equals(keptItem.getId()))
+            .map(OrderItem::id)
+            .toList()
+            .forEach(order::removeItem);
+
+        assembler.merge(orderPersistenceEntity, order);
+
+        assertThat(orderPersistenceEntity.getItems()).containsExactly(keptItem);
+    }
+
+    @Test
+    void shouldRoundTripBillingAndShipping() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        OrderPersistenceEntity orderPersistenceEntity = assembler.fromDomain(order);
+
+        Order disassembled = new OrderPersistenceEntityDisassembler().toDomainEntity(orderPersistenceEntity);
+
+        assertThat(orderPersistenceEntity.getBilling().getEmail()).isEqualTo(order.billing().email().value());
+        assertThat(orderPersistenceEntity.getShipping().getCost()).isEqualTo(order.shipping().cost().value());
+        assertThat(disassembled.billing()).isEqualTo(order.billing());
+        assertThat(disassembled.shipping()).isEqualTo(order.shipping());
+    }
+
+    @Test
+    void shouldKeepMissingBillingAndShippingEmpty() {
+        Order order = Order.draft(new CustomerId());
+        order.changePaymentMethod(PaymentMethod.CREDIT_CARD);
+
+        OrderPersistenceEntity orderPersistenceEntity = assembler.fromDomain(order);
+
+        assertThat(orderPersistenceEntity.getBilling()).isNull();
+        assertThat(orderPersistenceEntity.getShipping()).isNull();
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyCentsConverterTest {
+
+    private final MoneyCentsConverter converter = new MoneyCentsConverter();
+
+    @Test
+    public void shouldConvertToCentsAndBack() {
+
+        Long cents = converter.convertToDatabaseColumn(new BigDecimal("1250.90"));
+
+        assertThat(cents).isEqualTo(125090L);
+        assertThat(converter.convertToEntityAttribute(cents)).isEqualTo(new BigDecimal("1250.90"));
+    }
+
+    @Test
+    public void shouldRoundLikeMoney() {
+
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("10.005"))).isEqualTo(1000L);
+        assertThat(converter.convertToDatabaseColumn(new BigDecimal("3"))).isEqualTo(300L);
+    }
+
+    @Test
+    public void shouldKeepNulls() {
+
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class OrderStatusCodeConverterTest {
+
+    private static final Map<OrderStatus, Short> STORED_CODES = Map.of(
+        OrderStatus.DRAFT, (short) 1,
+        OrderStatus.PLACED, (short) 2,
+        OrderStatus.PAID, (short) 3,
+        OrderStatus.READY, (short) 4,
+        OrderStatus.CANCELED, (short) 5
+    );
+
+    private final OrderStatusCodeConverter converter = new OrderStatusCodeConverter();
+
+    @Test
+    public void shouldConvertEveryStatusToItsStoredCodeAndBack() {
+
+        for (OrderStatus status : OrderStatus.values()) {
+            Short code = converter.convertToDatabaseColumn(status.name());
+
+            assertThat(code).as(status.name()).isEqualTo(STORED_CODES.get(status));
+            assertThat(converter.convertToEntityAttribute(code)).isEqualTo(status.name());
+        }
+        assertThat(STORED_CODES).hasSize(OrderStatus.values().length);
+    }
+
+    @Test
+    public void shouldRejectUnknownStatusesAndCodes() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> converter.convertToDatabaseColumn("SHIPPED"));
+        assertThatIllegalArgumentException().isThrownBy(() -> converter.convertToEntityAttribute((short) 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> converter.convertToEntityAttribute((short) 6));
+    }
+
+    @Test
+    public void shouldKeepNulls() {
+
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.PaymentMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PaymentMethodCodeConverterTest {
+
+    private static final Map<PaymentMethod, Short> STORED_CODES = Map.of(
+        PaymentMethod.CREDIT_CARD, (short) 1,
+        PaymentMethod.GATEWAY_BALANCE, (short) 2
+    );
+
+    private final PaymentMethodCodeConverter converter = new PaymentMethodCodeConverter();
+
+    @Test
+    public void shouldConvertEveryPaymentMethodToItsStoredCodeAndBack() {
+
+        for (PaymentMethod paymentMethod : PaymentMethod.values()) {
+            Short code = converter.convertToDatabaseColumn(paymentMethod.name());
+
+            assertThat(code).as(paymentMethod.name()).isEqualTo(STORED_CODES.get(paymentMethod));
+            assertThat(converter.convertToEntityAttribute(code)).isEqualTo(paymentMethod.name());
+        }
+        assertThat(STORED_CODES).hasSize(PaymentMethod.values().length);
+    }
+
+    @Test
+    public void shouldRejectUnknownPaymentMethodsAndCodes() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> converter.convertToDatabaseColumn("PIX"));
+        assertThatIllegalArgumentException().isThrownBy(() -> converter.convertToEntityAttribute((short) 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> converter.convertToEntityAttribute((short) 3));
+    }
+
+    @Test
+    public void shouldKeepNulls() {
+
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class UuidBinaryConverterTest {
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+    @Test
+    public void shouldConvertToSixteenBytesAndBack() {
+
+        UUID uuid = UUID.randomUUID();
+
+        byte[] bytes = converter.convertToDatabaseColumn(uuid);
+
+        assertThat(bytes).hasSize(16);
+        assertThat(converter.convertToEntityAttribute(bytes)).isEqualTo(uuid);
+    }
+
+    @Test
+    public void shouldRejectMalformedColumn() {
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> converter.convertToEntityAttribute(new byte[8]));
+    }
+}
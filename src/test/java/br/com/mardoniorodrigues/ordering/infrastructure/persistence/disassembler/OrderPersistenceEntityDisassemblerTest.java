@@ -7,11 +7,15 @@ import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Money;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.Quantity;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.CustomerId;
 import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderItemId;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.ProductId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderItemPersistenceEntity;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceDataBuilder;
 import br.com.mardoniorodrigues.ordering.infrastructure.persistence.entity.OrderPersistenceEntity;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class OrderPersistenceEntityDisassemblerTest {
 
@@ -37,4 +41,32 @@ class OrderPersistenceEntityDisassemblerTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldConvertItemsFromPersistence() {
+
+        OrderPersistenceEntity persistenceEntity = OrderPersistenceDataBuilder.existingOrder().build();
+        OrderItemPersistenceEntity itemPersistenceEntity = OrderPersistenceDataBuilder.existingItem(persistenceEntity).build();
+        persistenceEntity.getItems().add(itemPersistenceEntity);
+
+        Order domainEntity = disassembler.toDomainEntity(persistenceEntity);
+
+        assertThat(domainEntity.items()).singleElement().satisfies(
+            i -> assertThat(i.id()).isEqualTo(new OrderItemId(itemPersistenceEntity.getId())),
+            i -> assertThat(i.orderId()).isEqualTo(domainEntity.id()),
+            i -> assertThat(i.productId()).isEqualTo(new ProductId(itemPersistenceEntity.getProductId())),
+            i -> assertThat(i.price()).isEqualTo(new Money(itemPersistenceEntity.getPrice())),
+            i -> assertThat(i.quantity()).isEqualTo(new Quantity(itemPersistenceEntity.getQuantity())),
+            i -> assertThat(i.totalAmount()).isEqualTo(new Money(itemPersistenceEntity.getTotalAmount()))
+        );
+    }
+
+    @Test
+    public void shouldRejectUnknownStatus() {
+
+        OrderPersistenceEntity persistenceEntity = OrderPersistenceDataBuilder.existingOrder().status("SHIPPED").build();
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> disassembler.toDomainEntity(persistenceEntity))
+            .withMessageContaining("SHIPPED");
+    }
+}
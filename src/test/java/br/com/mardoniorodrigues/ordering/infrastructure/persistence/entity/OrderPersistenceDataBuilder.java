@@ -21,4 +21,16 @@ public class OrderPersistenceDataBuilder {
             .paymentMethod("CREDIT_CARD")
             .placedAt(OffsetDateTime.now());
     }
+
+    public static OrderItemPersistenceEntity.OrderItemPersistenceEntityBuilder existingItem(OrderPersistenceEntity order) {
+
+        return OrderItemPersistenceEntity.builder()
+            .id(IdGenerator.generateTSID().toLong())
+            .order(order)
+            .productId(IdGenerator.generateTimeBasedUUID())
+            .productName("Notebook X11")
+            .price(new BigDecimal("500"))
+            .quantity(2)
+            .totalAmount(new BigDecimal("1000"));
+    }
 }
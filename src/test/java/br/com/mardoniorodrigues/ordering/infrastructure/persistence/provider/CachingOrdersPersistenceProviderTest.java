@@ -0,0 +1,107 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import br.com.mardoniorodrigues.ordering.domain.model.valueObject.id.OrderId;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.assembler.OrderPersistenceEntityAssembler;
+import br.com.mardoniorodrigues.ordering.infrastructure.persistence.disassembler.OrderPersistenceEntityDisassembler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CachingOrdersPersistenceProviderTest {
+
+    private final Orders delegate = mock(Orders.class);
+
+    private final CachingOrdersPersistenceProvider cachingOrders = new CachingOrdersPersistenceProvider(
+        delegate,
+        new OrderPersistenceEntityAssembler(),
+        new OrderPersistenceEntityDisassembler(),
+        100,
+        Duration.ofMinutes(1),
+        Duration.ofHours(1)
+    );
+
+    @Test
+    void shouldLoadOnceAndServeFollowingReadsFromCache() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        when(delegate.ofId(order.id())).thenReturn(Optional.of(order));
+
+        Optional<Order> first = cachingOrders.ofId(order.id());
+        Optional<Order> second = cachingOrders.ofId(order.id());
+
+        assertThat(first).hasValueSatisfying(o -> assertThat(o.id()).isEqualTo(order.id()));
+        assertThat(second).hasValueSatisfying(o -> assertThat(o.totalAmount()).isEqualTo(order.totalAmount()));
+        verify(delegate, times(1)).ofId(order.id());
+        assertThat(cachingOrders.stats().hitCount()).isEqualTo(1);
+        assertThat(cachingOrders.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHandOutIndependentCopies() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        when(delegate.ofId(order.id())).thenReturn(Optional.of(order));
+
+        Order first = cachingOrders.ofId(order.id()).orElseThrow();
+        first.markAsPaid();
+
+        Order second = cachingOrders.ofId(order.id()).orElseThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.status()).isEqualTo(OrderStatus.PLACED);
+    }
+
+    @Test
+    void shouldInvalidateOnAdd() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        when(delegate.ofId(order.id())).thenReturn(Optional.of(order));
+
+        cachingOrders.ofId(order.id());
+        cachingOrders.add(order);
+        cachingOrders.ofId(order.id());
+
+        verify(delegate).add(order);
+        verify(delegate, times(2)).ofId(order.id());
+    }
+
+    @Test
+    void shouldNotCacheMissingOrders() {
+        OrderId orderId = new OrderId();
+        when(delegate.ofId(orderId)).thenReturn(Optional.empty());
+
+        assertThat(cachingOrders.ofId(orderId)).isEmpty();
+        assertThat(cachingOrders.ofId(orderId)).isEmpty();
+
+        verify(delegate, times(2)).ofId(orderId);
+        assertThat(cachingOrders.estimatedSize()).isZero();
+    }
+
+    @Test
+    void shouldServeStatusFromCachedSnapshotWithoutLoadingIt() {
+        Order order = OrderTestDataBuilder.anOrder().status(OrderStatus.PAID).build();
+        when(delegate.ofId(order.id())).thenReturn(Optional.of(order));
+
+        cachingOrders.ofId(order.id());
+
+        assertThat(cachingOrders.statusOf(order.id())).contains(OrderStatus.PAID);
+        verify(delegate, never()).statusOf(order.id());
+    }
+
+    @Test
+    void shouldDelegateStatusOfUncachedOrders() {
+        OrderId orderId = new OrderId();
+        when(delegate.statusOf(orderId)).thenReturn(Optional.of(OrderStatus.PLACED));
+
+        assertThat(cachingOrders.statusOf(orderId)).contains(OrderStatus.PLACED);
+
+        verify(delegate).statusOf(orderId);
+        verify(delegate, never()).ofId(orderId);
+        assertThat(cachingOrders.estimatedSize()).isZero();
+    }
+}
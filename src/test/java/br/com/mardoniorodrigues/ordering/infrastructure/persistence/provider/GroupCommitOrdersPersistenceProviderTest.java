@@ -0,0 +1,234 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import br.com.mardoniorodrigues.ordering.domain.model.entity.Order;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderStatus;
+import br.com.mardoniorodrigues.ordering.domain.model.entity.OrderTestDataBuilder;
+import br.com.mardoniorodrigues.ordering.domain.model.repository.Orders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GroupCommitOrdersPersistenceProviderTest {
+
+    private final Orders delegate = mock(Orders.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private GroupCommitOrdersPersistenceProvider groupCommitOrders;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (groupCommitOrders != null) {
+            groupCommitOrders.close();
+        }
+    }
+
+    @Test
+    void givenConcurrentAdds_whenBatchFills_shouldCommitThemTogether() {
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 5, Duration.ofSeconds(5));
+        List<Order> orders = anOrders(5);
+
+        addConcurrently(orders).join();
+
+        orders.forEach(order -> verify(delegate).add(order));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void givenMoreAddsThanMaxBatchSize_whenCommit_shouldSplitIntoBoundedBatches() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<Order> currentBatch = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> currentBatch.add(invocation.getArgument(0))).when(delegate).add(any());
+        doAnswer(invocation -> {
+            batchSizes.add(currentBatch.size());
+            currentBatch.clear();
+            return null;
+        }).when(transactionManager).commit(any());
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 3, Duration.ofSeconds(5));
+
+        addConcurrently(anOrders(7)).join();
+
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 3));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(7);
+    }
+
+    @Test
+    void givenLoneAdd_whenMaxWaitElapses_shouldCommitIt() {
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 100, Duration.ofMillis(5));
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        groupCommitOrders.add(order);
+
+        verify(delegate).add(order);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void givenOneFailingOrder_whenBatchFails_shouldReportFailureOnlyToItsCaller() {
+        List<Order> orders = anOrders(3);
+        Order failing = orders.get(1);
+        doThrow(new DataIntegrityViolationException("duplicate")).when(delegate).add(failing);
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 3, Duration.ofSeconds(5));
+
+        List<CompletableFuture<Void>> results = orders.stream()
+            .map(order -> CompletableFuture.runAsync(() -> groupCommitOrders.add(order), callers))
+            .toList();
+
+        assertThat(results.get(0)).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(results.get(2)).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(results.get(1)).failsWithin(Duration.ofSeconds(5))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void givenAfterCommitCallbackFails_whenBatchCommits_shouldReportSuccessWithoutRetrying() {
+        List<Order> orders = anOrders(3);
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    throw new IllegalStateException("dispatcher stopped");
+                }
+            });
+            return null;
+        }).when(delegate).add(any());
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(
+            delegate, new NoOpTransactionManager(), 3, Duration.ofSeconds(5));
+
+        assertThat(addConcurrently(orders)).succeedsWithin(Duration.ofSeconds(5));
+
+        orders.forEach(order -> verify(delegate, times(1)).add(order));
+    }
+
+    @Test
+    void givenCommitFails_whenBatchCommits_shouldNotReportOrdersAsSaved() {
+        List<Order> orders = anOrders(2);
+        doThrow(new TransactionSystemException("commit failed")).when(transactionManager).commit(any());
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 2, Duration.ofSeconds(5));
+
+        List<CompletableFuture<Void>> results = orders.stream()
+            .map(order -> CompletableFuture.runAsync(() -> groupCommitOrders.add(order), callers))
+            .toList();
+
+        assertThat(results).allSatisfy(result -> assertThat(result).failsWithin(Duration.ofSeconds(5))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(TransactionSystemException.class));
+    }
+
+    @Test
+    void givenFailedBatch_whenRetryingAlone_shouldRestoreRecordedEvents() {
+        Order placed = OrderTestDataBuilder.anOrder().status(OrderStatus.PLACED).build();
+        Order failing = OrderTestDataBuilder.anOrder().build();
+        List<Integer> eventsSeen = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            eventsSeen.add(placed.domainEvents().size());
+            placed.clearDomainEvents();
+            return null;
+        }).when(delegate).add(placed);
+        doThrow(new IllegalStateException()).when(delegate).add(failing);
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 2, Duration.ofSeconds(5));
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> groupCommitOrders.add(placed), callers);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> groupCommitOrders.add(failing), callers);
+
+        assertThat(first).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(second).failsWithin(Duration.ofSeconds(5));
+        assertThat(eventsSeen).allSatisfy(size -> assertThat(size).isEqualTo(1));
+    }
+
+    @Test
+    void givenActiveTransaction_whenAdd_shouldWriteThroughWithoutQueueing() {
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 10, Duration.ofSeconds(5));
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            groupCommitOrders.add(order);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(delegate).add(order);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void givenClosedProvider_whenAdd_shouldFail() {
+        groupCommitOrders = new GroupCommitOrdersPersistenceProvider(delegate, transactionManager, 10, Duration.ofMillis(5));
+        groupCommitOrders.close();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> groupCommitOrders.add(OrderTestDataBuilder.anOrder().build()));
+        verifyNoInteractions(delegate);
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    private static List<Order> anOrders(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> OrderTestDataBuilder.anOrder().build())
+            .toList();
+    }
+
+    private CompletableFuture<Void> addConcurrently(List<Order> orders) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> adds = orders.stream()
+            .map(order -> CompletableFuture.runAsync(() -> {
+                awaitQuietly(start);
+                groupCommitOrders.add(order);
+            }, callers))
+            .toList();
+        start.countDown();
+        return CompletableFuture.allOf(adds.toArray(CompletableFuture[]::new));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.mardoniorodrigues.ordering.infrastructure.persistence.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class SingleFlightTest {
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        int followers = 15;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> load = () -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "order";
+        });
+
+        List<FutureTask<String>> results = new ArrayList<>();
+        List<Thread> followerThreads = new ArrayList<>();
+        FutureTask<String> leader = new FutureTask<>(load);
+        results.add(leader);
+        Thread.ofPlatform().start(leader);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        for (int i = 0; i < followers; i++) {
+            FutureTask<String> follower = new FutureTask<>(load);
+            results.add(follower);
+            followerThreads.add(Thread.ofPlatform().start(follower));
+        }
+
+        // a follower parks on the in-flight call, so WAITING means it has joined it
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!followerThreads.stream().allMatch(t -> t.getState() == Thread.State.WAITING)
+            && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        for (FutureTask<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("order");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldLoadAgainOnceThePreviousLoadCompleted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.load(1L, () -> "order-" + loads.incrementAndGet());
+        String value = singleFlight.load(1L, () -> "order-" + loads.incrementAndGet());
+
+        assertThat(value).isEqualTo("order-2");
+    }
+
+    @Test
+    void shouldPropagateLoaderFailure() {
+        assertThatIllegalStateException()
+            .isThrownBy(() -> singleFlight.load(1L, () -> {
+                throw new IllegalStateException();
+            }));
+
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}